@@ -1,21 +1,12 @@
 package software.amazon.msk.replicator;
 
 import java.time.Duration;
-import org.apache.commons.lang3.StringUtils;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kafka.KafkaClient;
 import software.amazon.awssdk.services.kafka.model.BadRequestException;
 import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
 import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
-import software.amazon.awssdk.services.kafka.model.ForbiddenException;
-import software.amazon.awssdk.services.kafka.model.InternalServerErrorException;
-import software.amazon.awssdk.services.kafka.model.NotFoundException;
-import software.amazon.awssdk.services.kafka.model.ServiceUnavailableException;
-import software.amazon.awssdk.services.kafka.model.TooManyRequestsException;
-import software.amazon.awssdk.services.kafka.model.UnauthorizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -28,6 +19,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     public static final String LOG_MSG_MSK_API_REQUEST_FAILED = "MSK API request failed: %s";
     public static final String LOG_MSG_MSK_INTERNAL_FAILURE = "MSK Internal Failure: %s";
     protected static final String MSK_API_PARAM_NAME_REPLICATOR_ARN = "replicatorArn";
+    protected static final String MSK_API_PARAM_NAME_CURRENT_VERSION = "currentVersion";
     protected static final String INVALID_PARAMETER_EXCEPTION = "One or more of the parameters are not valid";
     protected static final Constant STABILIZATION_DELAY_CREATE =
         Constant.of().timeout(Duration.ofMinutes(120L)).delay(Duration.ofSeconds(30L)).build();
@@ -36,19 +28,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final Constant STABILIZATION_DELAY_UPDATE =
             Constant.of().timeout(Duration.ofMinutes(720L)).delay(Duration.ofMinutes(1L)).build();
 
+    static {
+        SnapStartPriming.register();
+        ClientBuilder.startWarmUp();
+    }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
       final CallbackContext callbackContext,
       final Logger logger) {
-      return handleRequest(
-          proxy,
-          request,
-          callbackContext != null ? callbackContext : new CallbackContext(),
-          proxy.newProxy(ClientBuilder::getClient),
-          logger
-      );
+      try {
+          return ReplicatorEvents.recordInvocation(getClass().getSimpleName(), request.getClientRequestToken(), logger,
+              () -> handleRequest(
+                  proxy,
+                  request,
+                  callbackContext != null ? callbackContext : new CallbackContext(),
+                  proxy.newProxy(ClientBuilder::getClient),
+                  logger
+              ));
+      } finally {
+          SdkMetricsPublisher.SHARED.flush(logger);
+      }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -58,6 +60,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ProxyClient<KafkaClient> proxyClient,
       final Logger logger);
 
+  /**
+   * Describes the replicator through the service, hedged when hedged reads are enabled. The state read is recorded on
+   * the stabilization poll running, if any.
+   * @param proxyClient the aws service client to make the call
+   * @param describeReplicatorRequest the aws service request to describe a resource
+   * @return describe resource response
+   */
+  protected static DescribeReplicatorResponse describeReplicator(
+      final ProxyClient<KafkaClient> proxyClient,
+      final DescribeReplicatorRequest describeReplicatorRequest) {
+      final DescribeReplicatorResponse response = HedgedReads.SHARED.invoke(HedgedReads.DESCRIBE_REPLICATOR,
+          () -> proxyClient.injectCredentialsAndInvokeV2(describeReplicatorRequest, proxyClient.client()::describeReplicator));
+      ReplicatorEvents.observeState(response.replicatorStateAsString());
+      return response;
+  }
+
   protected ProgressEvent<ResourceModel,
       CallbackContext> handleError(
       final Exception exception,
@@ -67,66 +85,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final String clientRequestToken)
       throws Exception {
 
+      final ExceptionClassifier.Classification classification = ExceptionClassifier.classify(exception);
+      if (classification == null) {
+          logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
+          throw exception;
+      }
+
       if (exception instanceof IllegalArgumentException) {
           final String exceptionMessage = exception.getMessage();
           logger.log(String.format("[ClientRequestToken: %s] Property validation failure while creating replicator: %s",
               clientRequestToken, exceptionMessage));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, String.format("%s",
+          return ProgressEvent.failed(model, callbackContext, classification.getErrorCode(), String.format("%s",
               exceptionMessage));
       }
 
-      if (exception instanceof BadRequestException) {
-          logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, String.format(
-              "[ClientRequestToken: %s] %s '%s'", clientRequestToken, exception.getMessage(),
-              ((BadRequestException) exception).invalidParameter()));
-      }
-
-      if (exception instanceof ForbiddenException || exception instanceof UnauthorizedException) {
-          logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, String.format(
-              "[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage()));
-      }
-
-      if (exception instanceof InternalServerErrorException) {
-          logger.log(String.format(LOG_MSG_MSK_INTERNAL_FAILURE, exception.getMessage()));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure, String.format(
-              "[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage()));
-      }
-
-      if (exception instanceof ServiceUnavailableException) {
-          logger.log(String.format(LOG_MSG_MSK_INTERNAL_FAILURE, exception.getMessage()));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.ServiceInternalError, String.format(
-              "[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage()));
-      }
-
-      if (exception instanceof TooManyRequestsException) {
-          logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.Throttling, String.format(
-              "[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage()));
-      }
-
-      if (exception instanceof NotFoundException) {
-          logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
-          return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, String.format(
-              "[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage()));
-      }
-
-      if (exception instanceof AwsServiceException) {
-          boolean isError5XX =
-              StringUtils.isNotEmpty(exception.getMessage()) &&
-                    exception.getMessage().contains("Status Code: 5");
-          logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
-
-          return ProgressEvent.failed(model, callbackContext,
-              isError5XX ?
-                      HandlerErrorCode.ServiceInternalError :
-                      HandlerErrorCode.GeneralServiceException,
-              String.format("[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage()));
-      }
-
-      logger.log(String.format(LOG_MSG_MSK_API_REQUEST_FAILED, exception.getMessage()));
-      throw exception;
+      logger.log(String.format(classification.getLogMessageFormat(), exception.getMessage()));
+      final String message = exception instanceof BadRequestException ?
+          String.format("[ClientRequestToken: %s] %s '%s'", clientRequestToken, exception.getMessage(),
+              ((BadRequestException) exception).invalidParameter()) :
+          String.format("[ClientRequestToken: %s] %s", clientRequestToken, exception.getMessage());
+      return ProgressEvent.failed(model, callbackContext, classification.getErrorCode(), message);
   }
 
   protected ProgressEvent < ResourceModel, CallbackContext > describeReplicator(
@@ -154,6 +132,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
       logger.log(String.format("Fetching replicator details of resource %s.", describeReplicatorRequest.replicatorArn()));
 
-      return proxyClient.injectCredentialsAndInvokeV2(describeReplicatorRequest, proxyClient.client()::describeReplicator);
+      return describeReplicator(proxyClient, describeReplicatorRequest);
   }
 }
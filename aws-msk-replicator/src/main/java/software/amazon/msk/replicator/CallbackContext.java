@@ -7,4 +7,22 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Epoch milliseconds at which the replication info update was accepted, kept across callbacks so the full
+     * stabilization time can be recorded for update plans.
+     */
+    private Long replicationInfoUpdateAcceptedAt;
+
+    /**
+     * Stabilization polls of the operation so far and those not logged since the last logged one, kept across
+     * callbacks so the sampling of poll records survives re-invocation.
+     */
+    private long polls;
+    private long suppressedPolls;
+
+    /**
+     * State read by the last logged poll, and the epoch milliseconds at which it was logged.
+     */
+    private String loggedPollState;
+    private Long loggedPollAt;
 }
@@ -1,13 +1,217 @@
 package software.amazon.msk.replicator;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kafka.KafkaClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.utils.IoUtils;
 
+/**
+ * Builds the service client, tuned for Lambda: explicit timeouts for whole calls and for single attempts, so a slow
+ * call fails and is retried or reported before the function times out, and one http client per execution
+ * environment, whose kept-alive connections and TLS sessions are reused by the following invocations. Timeouts and
+ * connection lifetimes can be changed through environment variables of the function, in milliseconds. SDK call
+ * metrics go to the {@link SdkMetricsPublisher}, unless KAFKA_SDK_METRICS is false.
+ */
 public class ClientBuilder {
+  static final String API_CALL_TIMEOUT_VARIABLE = "KAFKA_API_CALL_TIMEOUT_MS";
+  static final String API_CALL_ATTEMPT_TIMEOUT_VARIABLE = "KAFKA_API_CALL_ATTEMPT_TIMEOUT_MS";
+  static final String CONNECTION_TIMEOUT_VARIABLE = "KAFKA_CONNECTION_TIMEOUT_MS";
+  static final String CONNECTION_ACQUISITION_TIMEOUT_VARIABLE = "KAFKA_CONNECTION_ACQUISITION_TIMEOUT_MS";
+  static final String SOCKET_TIMEOUT_VARIABLE = "KAFKA_SOCKET_TIMEOUT_MS";
+  static final String CONNECTION_TIME_TO_LIVE_VARIABLE = "KAFKA_CONNECTION_TIME_TO_LIVE_MS";
+  static final String CONNECTION_MAX_IDLE_TIME_VARIABLE = "KAFKA_CONNECTION_MAX_IDLE_TIME_MS";
+  static final String SDK_METRICS_VARIABLE = "KAFKA_SDK_METRICS";
+  static final String LAMBDA_FUNCTION_NAME_VARIABLE = "AWS_LAMBDA_FUNCTION_NAME";
+  static final String REGION_VARIABLE = "AWS_REGION";
+
+  static final Duration DEFAULT_API_CALL_TIMEOUT = Duration.ofSeconds(30L);
+  static final Duration DEFAULT_API_CALL_ATTEMPT_TIMEOUT = Duration.ofSeconds(10L);
+  static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2L);
+  static final Duration DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = Duration.ofSeconds(2L);
+  static final Duration DEFAULT_SOCKET_TIMEOUT = Duration.ofSeconds(10L);
+  static final Duration DEFAULT_CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(5L);
+  static final Duration DEFAULT_CONNECTION_MAX_IDLE_TIME = Duration.ofMinutes(1L);
+  static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(1L);
+  static final int MAX_CONNECTIONS = 10;
+
+  private static final Logger LOG = LogManager.getLogger(ClientBuilder.class);
+
+  private static SdkHttpClient httpClient;
+  private static KafkaClient client;
+
+  /**
+   * The client is built once per execution environment and shared by its invocations, the proxy sets the caller
+   * credentials on each request.
+   */
+  public static synchronized KafkaClient getClient() {
+    if (client == null) {
+      client = buildClient(getHttpClient(), System.getenv());
+    }
+    return client;
+  }
+
+  /**
+   * Starts {@link #warmUp()} on a daemon thread, so initialization of the handler classes does not wait for it.
+   */
+  static void startWarmUp() {
+    HandlerHelper.daemonThreadFactory("msk-replicator-warm-up").newThread(ClientBuilder::warmUp).start();
+  }
+
+  /**
+   * Opens a connection to the regional endpoint through the shared http client, so the first call of an invocation
+   * skips the TCP and TLS handshakes. Started in the background while the handler classes initialize, and again from
+   * the restore hook; gives up after {@link #WARM_UP_TIMEOUT}. Only runs in Lambda, and only logs failures.
+   */
+  static void warmUp() {
+    if (System.getenv(LAMBDA_FUNCTION_NAME_VARIABLE) == null || System.getenv(REGION_VARIABLE) == null) {
+      return;
+    }
+    final String region = System.getenv(REGION_VARIABLE);
+    try {
+      warmUp(getHttpClient(),
+          URI.create("https://" + KafkaClient.serviceMetadata().endpointFor(Region.of(region))), WARM_UP_TIMEOUT);
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn(String.format("Could not warm up a connection to the endpoint of %s", region), e);
+    }
+  }
+
+  /**
+   * Drops the shared clients and their connections, the next invocation builds new ones.
+   */
+  static synchronized void reset() {
+    if (client != null) {
+      client.close();
+      client = null;
+    }
+    if (httpClient != null) {
+      httpClient.close();
+      httpClient = null;
+    }
+  }
 
-  public static KafkaClient getClient() {
+  /**
+   * @param httpClient http client of the service client
+   * @param environment environment variables overriding the default timeouts and disabling metrics
+   * @return service client with the call and attempt timeouts and metric publishers
+   */
+  static KafkaClient buildClient(final SdkHttpClient httpClient, final Map<String, String> environment) {
     return KafkaClient.builder()
-        .httpClient(LambdaWrapper.HTTP_CLIENT)
+        .httpClient(httpClient)
+        .overrideConfiguration(buildOverrideConfiguration(environment))
+        .build();
+  }
+
+  /**
+   * @param environment environment variables overriding the default timeouts and disabling metrics
+   * @return call and attempt timeouts, and the metric publishers
+   */
+  static ClientOverrideConfiguration buildOverrideConfiguration(final Map<String, String> environment) {
+    final ClientOverrideConfiguration.Builder overrideConfiguration = ClientOverrideConfiguration.builder()
+        .apiCallTimeout(duration(environment, API_CALL_TIMEOUT_VARIABLE, DEFAULT_API_CALL_TIMEOUT))
+        .apiCallAttemptTimeout(
+            duration(environment, API_CALL_ATTEMPT_TIMEOUT_VARIABLE, DEFAULT_API_CALL_ATTEMPT_TIMEOUT));
+    if (!"false".equalsIgnoreCase(environment.get(SDK_METRICS_VARIABLE))) {
+      overrideConfiguration.addMetricPublisher(SdkMetricsPublisher.SHARED);
+    }
+    return overrideConfiguration.build();
+  }
+
+  /**
+   * @param environment environment variables overriding the default timeouts and connection lifetimes
+   * @return http client keeping connections alive between invocations
+   */
+  static SdkHttpClient buildHttpClient(final Map<String, String> environment) {
+    return ApacheHttpClient.builder()
+        .maxConnections(MAX_CONNECTIONS)
+        .connectionTimeout(duration(environment, CONNECTION_TIMEOUT_VARIABLE, DEFAULT_CONNECTION_TIMEOUT))
+        .connectionAcquisitionTimeout(duration(environment, CONNECTION_ACQUISITION_TIMEOUT_VARIABLE,
+            DEFAULT_CONNECTION_ACQUISITION_TIMEOUT))
+        .socketTimeout(duration(environment, SOCKET_TIMEOUT_VARIABLE, DEFAULT_SOCKET_TIMEOUT))
+        .connectionTimeToLive(
+            duration(environment, CONNECTION_TIME_TO_LIVE_VARIABLE, DEFAULT_CONNECTION_TIME_TO_LIVE))
+        .connectionMaxIdleTime(
+            duration(environment, CONNECTION_MAX_IDLE_TIME_VARIABLE, DEFAULT_CONNECTION_MAX_IDLE_TIME))
+        .tcpKeepAlive(true)
         .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * Sends an unsigned request and drains the response, which returns the connection to the pool of the client.
+   * @param httpClient http client to warm up
+   * @param endpoint endpoint to connect to
+   * @param timeout time after which the request is aborted
+   * @return http status code of the response
+   * @throws IOException if the connection fails or the request is aborted
+   */
+  static int warmUp(final SdkHttpClient httpClient, final URI endpoint, final Duration timeout) throws IOException {
+    final ExecutableHttpRequest request = httpClient.prepareRequest(HttpExecuteRequest.builder()
+        .request(SdkHttpFullRequest.builder()
+            .method(SdkHttpMethod.GET)
+            .uri(endpoint)
+            .build())
+        .build());
+    final ScheduledExecutorService abortScheduler =
+        Executors.newSingleThreadScheduledExecutor(HandlerHelper.daemonThreadFactory("msk-replicator-warm-up"));
+    try {
+      abortScheduler.schedule(request::abort, timeout.toMillis(), TimeUnit.MILLISECONDS);
+      final HttpExecuteResponse response = request.call();
+      final Optional<AbortableInputStream> responseBody = response.responseBody();
+      if (responseBody.isPresent()) {
+        try (AbortableInputStream body = responseBody.get()) {
+          IoUtils.drainInputStream(body);
+        }
+      }
+      return response.httpResponse().statusCode();
+    } finally {
+      abortScheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * @return the value of the variable in milliseconds, the default value when it is not set or not a positive number
+   */
+  static Duration duration(final Map<String, String> environment, final String variable, final Duration defaultValue) {
+    final String value = environment.get(variable);
+    if (value == null || value.trim().isEmpty()) {
+      return defaultValue;
+    }
+    try {
+      final long millis = Long.parseLong(value.trim());
+      if (millis > 0L) {
+        return Duration.ofMillis(millis);
+      }
+    } catch (final NumberFormatException e) {
+      // falls back to the default below
+    }
+    LOG.warn(String.format("Ignoring %s=%s, it is not a positive number of milliseconds, using %s", variable, value,
+        defaultValue));
+    return defaultValue;
+  }
+
+  private static synchronized SdkHttpClient getHttpClient() {
+    if (httpClient == null) {
+      httpClient = buildHttpClient(System.getenv());
+    }
+    return httpClient;
+  }
+}
@@ -1,10 +1,18 @@
 package software.amazon.msk.replicator;
 
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
 import software.amazon.awssdk.services.kafka.KafkaClient;
 import software.amazon.awssdk.services.kafka.model.ConflictException;
 import software.amazon.awssdk.services.kafka.model.CreateReplicatorRequest;
 import software.amazon.awssdk.services.kafka.model.CreateReplicatorResponse;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
 import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+import software.amazon.awssdk.services.kafka.model.ReplicatorSummary;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -15,6 +23,10 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 
 public class CreateHandler extends BaseHandlerStd {
+    static final String CREATE_STAGE = "AWS-MSK-Replicator::Create";
+    protected static final String STACK_ID_SYSTEM_TAG = "aws:cloudformation:stack-id";
+    protected static final String LOGICAL_ID_SYSTEM_TAG = "aws:cloudformation:logical-id";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -29,39 +41,126 @@ public class CreateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         final String clientRequestToken = request.getClientRequestToken();
 
+        if (StringUtils.isBlank(model.getReplicatorName())) {
+            model.setReplicatorName(HandlerHelper.generateReplicatorName(request));
+        }
+
         return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-MSK-Replicator::Create", proxyClient, model, callbackContext)
+            .then(progress -> ReplicatorEvents.stage(CREATE_STAGE, model, () ->
+                proxy.initiate(CREATE_STAGE, proxyClient, model, callbackContext)
                     .translateToServiceRequest(_resourceModel -> Translator.translateToCreateRequest(_resourceModel,
                             TagHelper.generateTagsForCreate(request)))
                     .backoffDelay(STABILIZATION_DELAY_CREATE)
-                    .makeServiceCall(this::createResource)
-                    .stabilize(this::stabilizedOnCreate)
+                    .makeServiceCall((createReplicatorRequest, _proxyClient) ->
+                        createResource(createReplicatorRequest, _proxyClient, model))
+                    .stabilize((createReplicatorRequest, createReplicatorResponse, _proxyClient, _resourceModel,
+                        _callbackContext) -> ReplicatorEvents.stabilizationPoll(CREATE_STAGE,
+                            createReplicatorResponse.replicatorArn(), () -> stabilizedOnCreate(createReplicatorRequest,
+                                createReplicatorResponse, _proxyClient, _resourceModel, _callbackContext)))
                     .handleError((createReplicatorRequest, exception, _proxyClient, _resourceModel, _callbackContext) ->
                         handleError(exception, model,  callbackContext, logger, clientRequestToken))
-                    .progress())
+                    .progress()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     /**
-     * Handler execute operation to call create replicator api
+     * Handler execute operation to call create replicator api. When a replicator with the requested name already
+     * exists and was created by an earlier attempt of this same stack resource with the desired configuration, as
+     * happens when a create times out or is retried after the service accepted it, that replicator is adopted and
+     * stabilization resumes on it instead of failing the stack.
      * @param createReplicatorRequest the aws service request to create a resource
      * @param proxyClient the aws service client to make the call
+     * @param model desired resource model
      * @return awsResponse create resource response
      */
     private CreateReplicatorResponse createResource(
         final CreateReplicatorRequest createReplicatorRequest,
-        final ProxyClient<KafkaClient> proxyClient) {
+        final ProxyClient<KafkaClient> proxyClient,
+        final ResourceModel model) {
+        PatternSetAnalyzer.validateReplicationPatterns(model, logger);
+
         try {
             return proxyClient
                 .injectCredentialsAndInvokeV2(createReplicatorRequest, proxyClient.client()::createReplicator);
         } catch (final ConflictException e) {
             logger.log(String.format("Replicator with name %s already exists: %s ", createReplicatorRequest.replicatorName(),
                 e.getMessage()));
-            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, createReplicatorRequest.replicatorName(), e);
+            final DescribeReplicatorResponse existingReplicator = findAdoptableReplicator(createReplicatorRequest,
+                proxyClient, model)
+                .orElseThrow(() -> new CfnAlreadyExistsException(ResourceModel.TYPE_NAME,
+                    createReplicatorRequest.replicatorName(), e));
+
+            logger.log(String.format("Adopting existing replicator %s in state %s, it matches the desired configuration",
+                existingReplicator.replicatorArn(), existingReplicator.replicatorState()));
+            return CreateReplicatorResponse.builder()
+                .replicatorArn(existingReplicator.replicatorArn())
+                .replicatorName(existingReplicator.replicatorName())
+                .replicatorState(existingReplicator.replicatorState())
+                .build();
         }
     }
 
+    /**
+     * Looks up the replicator holding the requested name and checks that it can be adopted: it must be creating or
+     * running, carry exactly the tags of the create request, including the stack and logical id system tags that tie
+     * it to this stack resource, and match the desired configuration canonically.
+     * @param createReplicatorRequest the aws service request to create a resource
+     * @param proxyClient the aws service client to make the calls
+     * @param model desired resource model
+     * @return describe response of the adoptable replicator, empty when there is none
+     */
+    private Optional<DescribeReplicatorResponse> findAdoptableReplicator(
+        final CreateReplicatorRequest createReplicatorRequest,
+        final ProxyClient<KafkaClient> proxyClient,
+        final ResourceModel model) {
+        final String replicatorName = createReplicatorRequest.replicatorName();
+        final Map<String, String> requestedTags = createReplicatorRequest.tags();
+
+        if (!requestedTags.containsKey(STACK_ID_SYSTEM_TAG) || !requestedTags.containsKey(LOGICAL_ID_SYSTEM_TAG)) {
+            logger.log(String.format("Not adopting replicator %s, the create request carries no stack system tags",
+                replicatorName));
+            return Optional.empty();
+        }
+
+        final Optional<ReplicatorSummary> existingReplicatorSummary;
+        try (ListReplicatorsPaginator paginator = new ListReplicatorsPaginator(proxyClient, null,
+            ReplicatorFilter.builder()
+                .namePrefix(replicatorName)
+                .state(ReplicatorState.CREATING)
+                .state(ReplicatorState.RUNNING)
+                .build())) {
+            existingReplicatorSummary = paginator.summaries()
+                .filter(replicatorSummary -> replicatorName.equals(replicatorSummary.replicatorName()))
+                .findFirst();
+        }
+
+        if (!existingReplicatorSummary.isPresent()) {
+            logger.log(String.format("Not adopting replicator %s, no creating or running replicator has this name",
+                replicatorName));
+            return Optional.empty();
+        }
+
+        final DescribeReplicatorResponse existingReplicator = describeReplicator(proxyClient,
+            DescribeReplicatorRequest.builder().replicatorArn(existingReplicatorSummary.get().replicatorArn()).build());
+
+        if (!requestedTags.equals(existingReplicator.tags())) {
+            logger.log(String.format("Not adopting replicator %s, it was not created by this stack resource",
+                existingReplicator.replicatorArn()));
+            return Optional.empty();
+        }
+
+        final ReplicatorFingerprint desiredFingerprint = ReplicatorFingerprint.of(model, false);
+        final ReplicatorFingerprint existingFingerprint =
+            ReplicatorFingerprint.of(Translator.translateFromReadResponse(existingReplicator), false);
+        if (!existingFingerprint.matches(desiredFingerprint)) {
+            logger.log(String.format("Not adopting replicator %s, its configuration differs in %s",
+                existingReplicator.replicatorArn(), desiredFingerprint.diff(existingFingerprint)));
+            return Optional.empty();
+        }
+
+        return Optional.of(existingReplicator);
+    }
+
     /**
      * Handler stabilize operation to wait till resource reaches terminal state by calling DescribeReplicator api
      * @param createReplicatorRequest the aws service request to create a resource
@@ -84,21 +183,22 @@ public class CreateHandler extends BaseHandlerStd {
 
         final String replicatorArn = model.getReplicatorArn();
         final ReplicatorState currentReplicatorState =
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
-                proxyClient.client()::describeReplicator).replicatorState();
+            describeReplicator(proxyClient, Translator.translateToReadRequest(model)).replicatorState();
+        final StructuredLogger pollLogger = StructuredLogger.of(logger)
+            .with(StructuredLogger.REPLICATOR_ARN, replicatorArn);
 
         switch (currentReplicatorState) {
             case RUNNING:
-                logger.log(String.format("Replicator %s is stabilized, current state is %s", replicatorArn,
-                        currentReplicatorState));
+                pollLogger.lastPoll(callbackContext, currentReplicatorState, String.format(
+                    "Replicator %s is stabilized, current state is %s", replicatorArn, currentReplicatorState));
                 return true;
             case CREATING:
-                logger.log(String.format("Replicator %s is stabilizing, current state is %s", replicatorArn,
-                        currentReplicatorState));
+                pollLogger.poll(callbackContext, currentReplicatorState, () -> String.format(
+                    "Replicator %s is stabilizing, current state is %s", replicatorArn, currentReplicatorState));
                 return false;
             default:
-                logger.log(String.format("Replicator %s reached unexpected state %s", replicatorArn,
-                        currentReplicatorState));
+                pollLogger.lastPoll(callbackContext, currentReplicatorState, String.format(
+                    "Replicator %s reached unexpected state %s", replicatorArn, currentReplicatorState));
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getReplicatorArn());
         }
     }
@@ -20,6 +20,8 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 public class DeleteHandler extends BaseHandlerStd {
+    static final String PRE_DELETE_STATE_CHECK_STAGE = "AWS-MSK-Replicator::PreDeleteStateCheck";
+    static final String DELETE_STAGE = "AWS-MSK-Replicator::Delete";
     private static final BiFunction<ResourceModel, ProxyClient<KafkaClient>, ResourceModel> EMPTY_CALL = (model,
         proxyClient) -> model;
 
@@ -38,29 +40,36 @@ public class DeleteHandler extends BaseHandlerStd {
         final String clientRequestToken = request.getClientRequestToken();
 
         return ProgressEvent.progress(model, callbackContext)
-            .then(progress -> proxy
-                .initiate("AWS-MSK-Replicator::PreDeleteStateCheck", proxyClient, progress.getResourceModel(),
+            .then(progress -> ReplicatorEvents.stage(PRE_DELETE_STATE_CHECK_STAGE, model, () -> proxy
+                .initiate(PRE_DELETE_STATE_CHECK_STAGE, proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
                 // We use CREATE delay, since the resource might be in CREATING state.
                 .backoffDelay(STABILIZATION_DELAY_CREATE)
                 .makeServiceCall(EMPTY_CALL)
-                .stabilize(this::stabilizePreDeleteStateCheck)
+                .stabilize((emptyRequest, emptyResponse, _proxyClient, _resourceModel, _callbackContext) ->
+                    ReplicatorEvents.stabilizationPoll(PRE_DELETE_STATE_CHECK_STAGE, _resourceModel.getReplicatorArn(),
+                        () -> stabilizePreDeleteStateCheck(emptyRequest, emptyResponse, _proxyClient, _resourceModel,
+                            _callbackContext)))
                 .handleError((emptyRequest, exception, _proxyClient, _resourceModel,
                     _callbackContext) -> handleError(exception, model, callbackContext, logger,
                         clientRequestToken))
-                .progress())
-            .then(progress -> proxy.initiate("AWS-MSK-Replicator::Delete", proxyClient, model, callbackContext)
+                .progress()))
+            .then(progress -> ReplicatorEvents.stage(DELETE_STAGE, model, () -> proxy
+                .initiate(DELETE_STAGE, proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .backoffDelay(STABILIZATION_DELAY_DELETE)
                 .makeServiceCall(this::deleteResource)
-                .stabilize(this::stabilizedOnDelete)
+                .stabilize((deleteReplicatorRequest, deleteReplicatorResponse, _proxyClient, _resourceModel,
+                    _callbackContext) -> ReplicatorEvents.stabilizationPoll(DELETE_STAGE,
+                        deleteReplicatorRequest.replicatorArn(), () -> stabilizedOnDelete(deleteReplicatorRequest,
+                            deleteReplicatorResponse, _proxyClient, _resourceModel, _callbackContext)))
                 .handleError((deleteReplicatorRequest, exception, _proxyClient, _resourceModel,
                     _callbackContext) -> handleError(exception, model, callbackContext, logger,
                         clientRequestToken))
                 .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .status(OperationStatus.SUCCESS)
-                    .build()));
+                    .build())));
     }
 
     /**
@@ -81,10 +90,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceModel model,
         final CallbackContext callbackContext) {
         try {
-            ReplicatorState replicatorState = proxyClient
-                .injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
-                    proxyClient.client()::describeReplicator)
-                .replicatorState();
+            ReplicatorState replicatorState =
+                describeReplicator(proxyClient, Translator.translateToReadRequest(model)).replicatorState();
             return replicatorState == ReplicatorState.RUNNING
                 || replicatorState == ReplicatorState.FAILED;
         } catch (NotFoundException e) {
@@ -154,24 +161,25 @@ public class DeleteHandler extends BaseHandlerStd {
         final CallbackContext callbackContext) {
 
         final String replicatorArn = deleteReplicatorRequest.replicatorArn();
+        final StructuredLogger pollLogger = StructuredLogger.of(logger)
+            .with(StructuredLogger.REPLICATOR_ARN, replicatorArn);
 
         try {
             ReplicatorState currentReplicatorState =
-                proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
-                    proxyClient.client()::describeReplicator).replicatorState();
+                describeReplicator(proxyClient, Translator.translateToReadRequest(model)).replicatorState();
             switch (currentReplicatorState) {
                 case DELETING:
-                    logger.log(String.format("Replicator %s is deleting, current state is %s", replicatorArn,
-                        currentReplicatorState));
+                    pollLogger.poll(callbackContext, currentReplicatorState, () -> String.format(
+                        "Replicator %s is deleting, current state is %s", replicatorArn, currentReplicatorState));
                     return false;
                 default:
-                    logger.log(String.format("Replicator %s reached unexpected state %s", replicatorArn,
-                        currentReplicatorState));
+                    pollLogger.lastPoll(callbackContext, currentReplicatorState, String.format(
+                        "Replicator %s reached unexpected state %s", replicatorArn, currentReplicatorState));
                     throw new CfnNotStabilizedException(
                         ResourceModel.TYPE_NAME, model.getReplicatorArn());
             }
         } catch (NotFoundException e) {
-            logger.log(String.format("Replicator %s is deleted", replicatorArn));
+            pollLogger.lastPoll(callbackContext, null, String.format("Replicator %s is deleted", replicatorArn));
             return true;
         } catch (BadRequestException e) {
             if (MSK_API_PARAM_NAME_REPLICATOR_ARN.equals(e.invalidParameter()) && e.getMessage() != null
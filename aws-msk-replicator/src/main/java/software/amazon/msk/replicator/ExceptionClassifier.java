@@ -0,0 +1,105 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.kafka.model.BadRequestException;
+import software.amazon.awssdk.services.kafka.model.ForbiddenException;
+import software.amazon.awssdk.services.kafka.model.InternalServerErrorException;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.awssdk.services.kafka.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.kafka.model.TooManyRequestsException;
+import software.amazon.awssdk.services.kafka.model.UnauthorizedException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * Classifies exceptions of the service calls into the handler error code reported to CloudFormation, whether the call
+ * is worth retrying and the backoff recommended before retrying it. Exceptions are looked up by class first, the
+ * result is computed once per class, then service exceptions of other classes by their HTTP status code. The
+ * classification drives {@link BaseHandlerStd#handleError}. The errors it deems retryable, throttling and server
+ * errors, are those the default retry strategy of the service client already retries within the invocation, so they
+ * only reach the handler once its attempts run out.
+ */
+public final class ExceptionClassifier {
+    static final Duration SERVER_ERROR_BACKOFF = Duration.ofMillis(200L);
+    static final Duration THROTTLING_BACKOFF = Duration.ofSeconds(1L);
+
+    static final Classification INVALID_REQUEST = new Classification(HandlerErrorCode.InvalidRequest, false,
+        Duration.ZERO, BaseHandlerStd.LOG_MSG_MSK_API_REQUEST_FAILED);
+    static final Classification NOT_FOUND = new Classification(HandlerErrorCode.NotFound, false,
+        Duration.ZERO, BaseHandlerStd.LOG_MSG_MSK_API_REQUEST_FAILED);
+    static final Classification THROTTLING = new Classification(HandlerErrorCode.Throttling, true,
+        THROTTLING_BACKOFF, BaseHandlerStd.LOG_MSG_MSK_API_REQUEST_FAILED);
+    static final Classification INTERNAL_FAILURE = new Classification(HandlerErrorCode.InternalFailure, true,
+        SERVER_ERROR_BACKOFF, BaseHandlerStd.LOG_MSG_MSK_INTERNAL_FAILURE);
+    static final Classification SERVICE_UNAVAILABLE = new Classification(HandlerErrorCode.ServiceInternalError, true,
+        SERVER_ERROR_BACKOFF, BaseHandlerStd.LOG_MSG_MSK_INTERNAL_FAILURE);
+    static final Classification SERVER_ERROR = new Classification(HandlerErrorCode.ServiceInternalError, true,
+        SERVER_ERROR_BACKOFF, BaseHandlerStd.LOG_MSG_MSK_API_REQUEST_FAILED);
+    static final Classification GENERAL_SERVICE_EXCEPTION = new Classification(HandlerErrorCode.GeneralServiceException,
+        false, Duration.ZERO, BaseHandlerStd.LOG_MSG_MSK_API_REQUEST_FAILED);
+
+    private static final Map<Class<? extends Exception>, Classification> BY_EXCEPTION_CLASS = new HashMap<>();
+    private static final Classification[] BY_STATUS_CODE = new Classification[600];
+
+    static {
+        BY_EXCEPTION_CLASS.put(IllegalArgumentException.class, INVALID_REQUEST);
+        BY_EXCEPTION_CLASS.put(BadRequestException.class, INVALID_REQUEST);
+        BY_EXCEPTION_CLASS.put(ForbiddenException.class, INVALID_REQUEST);
+        BY_EXCEPTION_CLASS.put(UnauthorizedException.class, INVALID_REQUEST);
+        BY_EXCEPTION_CLASS.put(NotFoundException.class, NOT_FOUND);
+        BY_EXCEPTION_CLASS.put(TooManyRequestsException.class, THROTTLING);
+        BY_EXCEPTION_CLASS.put(InternalServerErrorException.class, INTERNAL_FAILURE);
+        BY_EXCEPTION_CLASS.put(ServiceUnavailableException.class, SERVICE_UNAVAILABLE);
+
+        BY_STATUS_CODE[429] = THROTTLING;
+        for (int statusCode = 500; statusCode < BY_STATUS_CODE.length; statusCode++) {
+            BY_STATUS_CODE[statusCode] = SERVER_ERROR;
+        }
+    }
+
+    private static final ClassValue<Classification> BY_CLASS = new ClassValue<Classification>() {
+        @Override
+        protected Classification computeValue(final Class<?> exceptionClass) {
+            for (Class<?> type = exceptionClass; type != null; type = type.getSuperclass()) {
+                final Classification classification = BY_EXCEPTION_CLASS.get(type);
+                if (classification != null) {
+                    return classification;
+                }
+            }
+            return null;
+        }
+    };
+
+    private ExceptionClassifier() {
+    }
+
+    /**
+     * @param exception exception of a service call or of a request translation
+     * @return classification of the exception, null when it is not an expected failure and should be rethrown
+     */
+    public static Classification classify(final Throwable exception) {
+        final Classification classification = BY_CLASS.get(exception.getClass());
+        if (classification != null) {
+            return classification;
+        }
+        if (exception instanceof AwsServiceException) {
+            final int statusCode = ((AwsServiceException) exception).statusCode();
+            if (statusCode > 0 && statusCode < BY_STATUS_CODE.length && BY_STATUS_CODE[statusCode] != null) {
+                return BY_STATUS_CODE[statusCode];
+            }
+            return GENERAL_SERVICE_EXCEPTION;
+        }
+        return null;
+    }
+
+    @lombok.Value
+    public static class Classification {
+        HandlerErrorCode errorCode;
+        boolean retryable;
+        Duration backoff;
+        String logMessageFormat;
+    }
+}
@@ -0,0 +1,201 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * JDK Flight Recorder implementation of the {@link ReplicatorEvents}. This is the only class referencing jdk.jfr, and
+ * it is only loaded once {@link ReplicatorEvents} found events enabled and the jdk.jfr module available.
+ */
+final class FlightRecorderEvents {
+    static final String CATEGORY = "AWS-MSK-Replicator";
+    static final String RECORDING_CONFIGURATION = "profile";
+
+    private static final ThreadLocal<StabilizationPoll> CURRENT_POLL = new ThreadLocal<>();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Runs a call graph stage of a handler.
+     *
+     * @param stage call graph name of the stage
+     * @param model resource model of the stage
+     * @param stageCall the stage
+     * @return progress of the stage
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> stage(
+        final String stage,
+        final ResourceModel model,
+        final Supplier<ProgressEvent<ResourceModel, CallbackContext>> stageCall) {
+
+        final HandlerStage event = new HandlerStage();
+        event.stage = stage;
+        event.replicatorArn = model == null ? null : model.getReplicatorArn();
+        event.begin();
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progress = stageCall.get();
+            event.status = progress == null || progress.getStatus() == null ? null : progress.getStatus().toString();
+            return progress;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs one stabilization poll; the replicator state it reads is recorded by {@link #observeState(String)}.
+     *
+     * @param stage call graph name of the stage being stabilized
+     * @param replicatorArn replicator arn
+     * @param poll the poll, true once stabilized
+     * @return whether the stage is stabilized
+     */
+    static boolean stabilizationPoll(final String stage, final String replicatorArn, final BooleanSupplier poll) {
+        final StabilizationPoll event = new StabilizationPoll();
+        event.stage = stage;
+        event.replicatorArn = replicatorArn;
+        CURRENT_POLL.set(event);
+        event.begin();
+        try {
+            event.stabilized = poll.getAsBoolean();
+            return event.stabilized;
+        } finally {
+            event.commit();
+            CURRENT_POLL.remove();
+        }
+    }
+
+    /**
+     * Records the replicator state read by the stabilization poll running on this thread, if any.
+     *
+     * @param state replicator state
+     */
+    static void observeState(final String state) {
+        final StabilizationPoll poll = CURRENT_POLL.get();
+        if (poll != null) {
+            poll.state = state;
+        }
+    }
+
+    static ReplicatorEvents.Span beginConversion(final String conversion, final String replicatorArn) {
+        final TranslatorConversion event = new TranslatorConversion();
+        event.conversion = conversion;
+        event.replicatorArn = replicatorArn;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Runs a handler invocation, recorded to its own file when JFR_RECORDING_DIRECTORY is set and the invocation
+     * matches JFR_RECORDING_CLIENT_REQUEST_TOKEN, if that is set.
+     *
+     * @param environment environment variables of the function
+     * @param handlerName name of the handler
+     * @param clientRequestToken client request token of the invocation
+     * @param logger logger of the invocation
+     * @param invocation the invocation
+     * @return progress of the invocation
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> recordInvocation(
+        final Map<String, String> environment,
+        final String handlerName,
+        final String clientRequestToken,
+        final Logger logger,
+        final Supplier<ProgressEvent<ResourceModel, CallbackContext>> invocation) {
+
+        final String directory = environment.get(ReplicatorEvents.RECORDING_DIRECTORY_VARIABLE);
+        final String recordedToken = environment.get(ReplicatorEvents.RECORDING_CLIENT_REQUEST_TOKEN_VARIABLE);
+        if (directory == null || directory.isEmpty()
+            || (recordedToken != null && !recordedToken.isEmpty() && !recordedToken.equals(clientRequestToken))) {
+            return invocation.get();
+        }
+
+        final Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(RECORDING_CONFIGURATION));
+        } catch (final IOException | ParseException e) {
+            logger.log(String.format("Not recording the invocation, JFR configuration %s is not available: %s",
+                RECORDING_CONFIGURATION, e.getMessage()));
+            return invocation.get();
+        }
+        final Path destination = Paths.get(directory, String.format("%s-%s.jfr", handlerName,
+            clientRequestToken == null ? Long.toString(System.currentTimeMillis()) : clientRequestToken));
+        recording.setName(destination.getFileName().toString());
+        recording.start();
+        try {
+            return invocation.get();
+        } finally {
+            recording.stop();
+            try {
+                recording.dump(destination);
+                logger.log(String.format("JFR recording of the invocation written to %s", destination));
+            } catch (final IOException e) {
+                logger.log(String.format("JFR recording of the invocation could not be written to %s: %s",
+                    destination, e.getMessage()));
+            } finally {
+                recording.close();
+            }
+        }
+    }
+
+    @Name("software.amazon.msk.replicator.HandlerStage")
+    @Label("Handler Stage")
+    @Description("Call graph stage of a handler, such as AWS-MSK-Replicator::Create")
+    @Category(CATEGORY)
+    static final class HandlerStage extends Event {
+        @Label("Stage")
+        String stage;
+
+        @Label("Replicator ARN")
+        String replicatorArn;
+
+        @Label("Status")
+        String status;
+    }
+
+    @Name("software.amazon.msk.replicator.StabilizationPoll")
+    @Label("Stabilization Poll")
+    @Description("One poll of the replicator state while a stage stabilizes")
+    @Category(CATEGORY)
+    static final class StabilizationPoll extends Event {
+        @Label("Stage")
+        String stage;
+
+        @Label("Replicator ARN")
+        String replicatorArn;
+
+        @Label("State")
+        String state;
+
+        @Label("Stabilized")
+        boolean stabilized;
+    }
+
+    @Name("software.amazon.msk.replicator.TranslatorConversion")
+    @Label("Translator Conversion")
+    @Description("Conversion between the resource model and service requests or responses")
+    @Category(CATEGORY)
+    static final class TranslatorConversion extends Event implements ReplicatorEvents.Span {
+        @Label("Conversion")
+        String conversion;
+
+        @Label("Replicator ARN")
+        String replicatorArn;
+    }
+}
@@ -3,8 +3,17 @@ package software.amazon.msk.replicator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.IdentifierUtils;
 
 public class HandlerHelper {
+    static final int MAX_REPLICATOR_NAME_LENGTH = 128;
+
     static boolean isConsumerGroupReplicationUpdated(
         final ConsumerGroupReplication desiredConsumerGroupReplication,
         final ConsumerGroupReplication currentConsumerGroupReplication) {
@@ -58,4 +67,43 @@ public class HandlerHelper {
 
         return updatedDesiredReplicationInfos;
     };
+
+    /**
+     * Waits for a service call running on a background thread, rethrowing its runtime exceptions unchanged so they
+     * can be handled like exceptions from a call made on the handler thread.
+     */
+    static <T> T awaitResult(final Future<T> result, final String operation) {
+        try {
+            return result.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnGeneralServiceException(operation, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CfnGeneralServiceException(operation, e.getCause());
+        }
+    }
+
+    /**
+     * Thread factory for background service calls, daemon threads so they never hold the invocation open.
+     */
+    static ThreadFactory daemonThreadFactory(final String threadName) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Generates the name of a replicator declared without one from the stack, the logical resource id and the client
+     * request token. The name is the same for every invocation of one create operation and differs for a
+     * replacement, so the replacement replicator can be created and reach RUNNING before the old one is deleted.
+     */
+    static String generateReplicatorName(final ResourceHandlerRequest<ResourceModel> request) {
+        return IdentifierUtils.generateResourceIdentifier(request.getStackId(), request.getLogicalResourceIdentifier(),
+            request.getClientRequestToken(), MAX_REPLICATOR_NAME_LENGTH);
+    }
 }
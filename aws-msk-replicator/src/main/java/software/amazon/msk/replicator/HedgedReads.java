@@ -0,0 +1,236 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import software.amazon.awssdk.core.exception.AbortedException;
+
+/**
+ * Opt-in hedging of read only calls (DescribeReplicator, ListReplicators) against tail latency. Once enough latencies
+ * of an operation have been recorded, a call that has not returned within their configured percentile is sent a
+ * second time, and whichever attempt returns first is used; the other one is cancelled. Hedges are paid for from a
+ * budget that grows by a fraction of a hedge with every call, so they stay below that fraction of the traffic.
+ *
+ * Disabled by default, enable it with the environment variable KAFKA_HEDGED_READS=true. The percentile and budget are
+ * set through KAFKA_HEDGED_READS_PERCENTILE and KAFKA_HEDGED_READS_BUDGET_PERCENT.
+ */
+public class HedgedReads {
+    public static final String DESCRIBE_REPLICATOR = "DescribeReplicator";
+    public static final String LIST_REPLICATORS = "ListReplicators";
+
+    static final String ENABLED_VARIABLE = "KAFKA_HEDGED_READS";
+    static final String PERCENTILE_VARIABLE = "KAFKA_HEDGED_READS_PERCENTILE";
+    static final String BUDGET_PERCENT_VARIABLE = "KAFKA_HEDGED_READS_BUDGET_PERCENT";
+    static final double DEFAULT_PERCENTILE = 95.0;
+    static final double DEFAULT_BUDGET_PERCENT = 5.0;
+    static final int LATENCY_WINDOW = 100;
+    static final int MIN_LATENCIES = 20;
+    static final double MAX_BUDGET = 10.0;
+
+    private static final Logger LOG = LogManager.getLogger(HedgedReads.class);
+
+    public static final HedgedReads SHARED = fromEnvironment(System.getenv());
+
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetPerCall;
+    private final Map<String, Deque<Long>> latencyNanos = new HashMap<>();
+    private final AtomicLong hedges = new AtomicLong();
+    private ExecutorService executor;
+    private double budget;
+
+    /**
+     * @param enabled whether calls are hedged at all
+     * @param percentile percentile of the recorded latencies after which a call is hedged, between 0 and 100
+     * @param budgetPercent hedges per 100 calls at most
+     */
+    HedgedReads(final boolean enabled, final double percentile, final double budgetPercent) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetPerCall = budgetPercent / 100.0;
+    }
+
+    static HedgedReads fromEnvironment(final Map<String, String> environment) {
+        return new HedgedReads(Boolean.parseBoolean(environment.get(ENABLED_VARIABLE)),
+            number(environment, PERCENTILE_VARIABLE, DEFAULT_PERCENTILE),
+            number(environment, BUDGET_PERCENT_VARIABLE, DEFAULT_BUDGET_PERCENT));
+    }
+
+    /**
+     * Makes a read only call, hedged when enabled and the call is slower than the recorded percentile.
+     *
+     * @param operation name of the operation, latencies are recorded per operation
+     * @param call the call, which must be safe to make twice
+     * @param <T> response type
+     * @return response of the attempt that returned first
+     */
+    public <T> T invoke(final String operation, final Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        final Duration hedgeDelay = hedgeDelay(operation);
+        if (hedgeDelay == null) {
+            final long startNanos = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                recordLatency(operation, Duration.ofNanos(System.nanoTime() - startNanos));
+            }
+        }
+
+        final CompletionService<T> attempts = new ExecutorCompletionService<>(getExecutor());
+        final List<Future<T>> futures = new ArrayList<>(2);
+        futures.add(attempts.submit(timed(operation, call::get)));
+        try {
+            Future<T> completed = attempts.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+            if (completed == null && tryAcquireHedge()) {
+                hedges.incrementAndGet();
+                LOG.debug(String.format("Hedging %s, no response after %s", operation, hedgeDelay));
+                futures.add(attempts.submit(timed(operation, call::get)));
+            }
+            if (completed == null) {
+                completed = attempts.take();
+            }
+            try {
+                return completed.get();
+            } catch (final ExecutionException e) {
+                if (futures.size() == 1) {
+                    throw unwrap(e);
+                }
+                // the other attempt may still succeed
+                try {
+                    return attempts.take().get();
+                } catch (final ExecutionException ignored) {
+                    throw unwrap(e);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.builder().message(operation + " was interrupted").cause(e).build();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * @return number of hedged calls so far
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * @param operation name of the operation
+     * @return delay after which a call is hedged, null while too few latencies were recorded
+     */
+    synchronized Duration hedgeDelay(final String operation) {
+        budget = Math.min(MAX_BUDGET, budget + budgetPerCall);
+        final Deque<Long> latencies = latencyNanos.get(operation);
+        if (latencies == null || latencies.size() < MIN_LATENCIES) {
+            return null;
+        }
+        final List<Long> sortedLatencies = new ArrayList<>(latencies);
+        Collections.sort(sortedLatencies);
+        final int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.size()) - 1;
+        return Duration.ofNanos(sortedLatencies.get(Math.max(0, Math.min(index, sortedLatencies.size() - 1))));
+    }
+
+    /**
+     * Forgets the recorded latencies and the hedge budget.
+     */
+    synchronized void clear() {
+        latencyNanos.clear();
+        budget = 0.0;
+    }
+
+    synchronized void recordLatency(final String operation, final Duration latency) {
+        final Deque<Long> latencies = latencyNanos.computeIfAbsent(operation, ignored -> new ArrayDeque<>());
+        if (latencies.size() == LATENCY_WINDOW) {
+            latencies.removeFirst();
+        }
+        latencies.addLast(latency.toNanos());
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+
+    private <T> Callable<T> timed(final String operation, final Callable<T> call) {
+        return () -> {
+            final long startNanos = System.nanoTime();
+            try {
+                return call.call();
+            } finally {
+                // a cancelled attempt did not get to see the full latency
+                if (!Thread.currentThread().isInterrupted()) {
+                    recordLatency(operation, Duration.ofNanos(System.nanoTime() - startNanos));
+                }
+            }
+        };
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final AtomicInteger threads = new AtomicInteger();
+            executor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "hedged-reads-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return new CompletionException(e.getCause());
+    }
+
+    private static double number(final Map<String, String> environment, final String variable, final double defaultValue) {
+        final String value = environment.get(variable);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final double number = Double.parseDouble(value.trim());
+            if (number >= 0.0 && number <= 100.0) {
+                return number;
+            }
+        } catch (final NumberFormatException e) {
+            // falls back to the default below
+        }
+        LOG.warn(String.format("Ignoring %s=%s, it is not a number between 0 and 100, using %s", variable, value,
+            defaultValue));
+        return defaultValue;
+    }
+}
@@ -27,8 +27,8 @@ public class ListHandler extends BaseHandlerStd {
                 _resourceModel -> Translator.translateToListRequest(request.getNextToken()))
             .makeServiceCall(
                 (listReplicatorsRequest, _proxyClient) ->
-                    _proxyClient.injectCredentialsAndInvokeV2(
-                        listReplicatorsRequest, _proxyClient.client()::listReplicators))
+                    HedgedReads.SHARED.invoke(HedgedReads.LIST_REPLICATORS, () -> _proxyClient.injectCredentialsAndInvokeV2(
+                        listReplicatorsRequest, _proxyClient.client()::listReplicators)))
             .handleError((listReplicatorsRequest, exception, _proxyClient, _resourceModel, _callbackContext) ->
                 handleError(exception, model,  callbackContext, logger, clientRequestToken))
             .done((listReplicatorsRequest, listReplicatorsResponse, proxyInvocation, resourceModel, context) ->
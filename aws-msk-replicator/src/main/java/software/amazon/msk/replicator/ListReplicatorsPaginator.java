@@ -0,0 +1,107 @@
+package software.amazon.msk.replicator;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.lang3.StringUtils;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsResponse;
+import software.amazon.awssdk.services.kafka.model.ReplicatorSummary;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Streams every replicator in the account across ListReplicators pages. The next page is requested in the
+ * background as soon as the current one arrives, so the network round trip overlaps with the caller translating
+ * and processing the current page.
+ *
+ * Intended for bounded internal use such as bulk tooling and drift scanning; the List handler itself still returns
+ * one page per invocation as required by the handler contract.
+ */
+public class ListReplicatorsPaginator implements Iterator<ReplicatorSummary>, AutoCloseable {
+    private static final String LIST_REPLICATORS_OPERATION = "ListReplicators";
+
+    private final ProxyClient<KafkaClient> proxyClient;
+    private final Integer maxResults;
+    private final ReplicatorFilter filter;
+    private final ExecutorService prefetchExecutor;
+
+    private Iterator<ReplicatorSummary> currentPage = Collections.emptyIterator();
+    private Future<ListReplicatorsResponse> pendingPage;
+
+    /**
+     * @param proxyClient the aws service client to make the calls
+     * @param maxResults page size requested from ListReplicators, service default when null
+     */
+    public ListReplicatorsPaginator(final ProxyClient<KafkaClient> proxyClient, final Integer maxResults) {
+        this(proxyClient, maxResults, ReplicatorFilter.NONE);
+    }
+
+    /**
+     * @param proxyClient the aws service client to make the calls
+     * @param maxResults page size requested from ListReplicators, service default when null
+     * @param filter name prefix and state filter applied to the listed replicators
+     */
+    public ListReplicatorsPaginator(final ProxyClient<KafkaClient> proxyClient, final Integer maxResults,
+        final ReplicatorFilter filter) {
+        this.proxyClient = proxyClient;
+        this.maxResults = maxResults;
+        this.filter = filter;
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(
+            HandlerHelper.daemonThreadFactory("msk-replicator-list-prefetch"));
+        this.pendingPage = fetchPage(null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext() && pendingPage != null) {
+            final ListReplicatorsResponse page = HandlerHelper.awaitResult(pendingPage, LIST_REPLICATORS_OPERATION);
+            pendingPage = StringUtils.isEmpty(page.nextToken()) ? null : fetchPage(page.nextToken());
+            currentPage = page.replicators().stream().filter(filter::matches).iterator();
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public ReplicatorSummary next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    /**
+     * @return lazily paged stream of replicator summaries, closing the stream stops prefetching
+     */
+    public Stream<ReplicatorSummary> summaries() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * @return lazily paged stream of resource models translated from the replicator summaries
+     */
+    public Stream<ResourceModel> models() {
+        return summaries().map(Translator::translateFromReplicatorSummary);
+    }
+
+    @Override
+    public void close() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    private Future<ListReplicatorsResponse> fetchPage(final String nextToken) {
+        return prefetchExecutor.submit(() -> HedgedReads.SHARED.invoke(HedgedReads.LIST_REPLICATORS,
+            () -> proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListRequest(nextToken, maxResults,
+                filter), proxyClient.client()::listReplicators)));
+    }
+}
@@ -0,0 +1,514 @@
+package software.amazon.msk.replicator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Static analysis of the regular expression lists of a replication flow (topics and consumer groups to replicate
+ * and to exclude). The replicator matches every topic and consumer group name against these lists, periodically
+ * when new topic or group detection is on, so expensive lists slow down discovery on the source cluster.
+ *
+ * The analysis reports, per list:
+ * <ul>
+ *     <li>errors for patterns that do not compile or can backtrack catastrophically: an unbounded quantifier over a
+ *     group that itself contains an unbounded quantifier, or over overlapping alternatives, as in {@code (a+)+} or
+ *     {@code (a|ab)*};</li>
+ *     <li>warnings for redundant patterns, equal to another one once anchors are dropped (names are matched in
+ *     full), and for patterns subsumed by a broader one in the same list;</li>
+ *     <li>an estimated number of matching steps per evaluated name, with a warning above
+ *     {@link #WARN_ESTIMATED_COST}.</li>
+ * </ul>
+ *
+ * The cost estimate assumes names of {@link #MAX_NAME_LENGTH} characters and the worst case of a failed match, so
+ * a pattern with k unbounded quantifiers costs about n^k steps and a catastrophic pattern is unbounded. It is a
+ * coarse upper bound, far above what sequential wildcards such as {@code a.*b.*c.*} cost in practice, so it only
+ * ever warns; errors are reserved for the catastrophic shapes above.
+ */
+public final class PatternSetAnalyzer {
+    static final int MAX_NAME_LENGTH = 249;
+    static final long WARN_ESTIMATED_COST = 1_000_000L;
+
+    private static final String MATCH_ANYTHING = ".*";
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    private static final Pattern LITERAL_PREFIX_WILDCARD = Pattern.compile("([^\\\\^$.|?*+()\\[\\]{}]*)\\.\\*");
+
+    public enum Severity {
+        ERROR,
+        WARNING
+    }
+
+    @lombok.Value
+    public static class Finding {
+        Severity severity;
+        String pattern;
+        String message;
+    }
+
+    @lombok.Value
+    public static class Report {
+        String listName;
+        List<Finding> findings;
+        long estimatedCost;
+
+        public List<Finding> getErrors() {
+            return findings.stream().filter(finding -> finding.getSeverity() == Severity.ERROR)
+                .collect(Collectors.toList());
+        }
+
+        public List<Finding> getWarnings() {
+            return findings.stream().filter(finding -> finding.getSeverity() == Severity.WARNING)
+                .collect(Collectors.toList());
+        }
+    }
+
+    private PatternSetAnalyzer() {
+    }
+
+    /**
+     * @param listName name of the analyzed list, used in messages
+     * @param patterns regular expressions of the list, null for an unset list
+     * @return findings and estimated matching cost of the list
+     */
+    public static Report analyze(final String listName, final Collection<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return new Report(listName, Collections.emptyList(), 0L);
+        }
+
+        final List<Finding> findings = new ArrayList<>();
+        final Map<String, String> canonicalPatterns = new LinkedHashMap<>();
+        long estimatedCost = 0L;
+        boolean catastrophic = false;
+
+        final Map<String, Pattern> matchablePatterns = new HashMap<>();
+
+        for (final String pattern : patterns) {
+            final Pattern compiledPattern;
+            try {
+                compiledPattern = Pattern.compile(pattern);
+            } catch (final PatternSyntaxException e) {
+                findings.add(new Finding(Severity.ERROR, pattern,
+                    String.format("%s: pattern '%s' is not a valid regular expression: %s", listName, pattern,
+                        e.getDescription())));
+                continue;
+            }
+
+            final PatternScanner scanner = new PatternScanner(pattern);
+            scanner.scan();
+            if (scanner.isCatastrophic()) {
+                catastrophic = true;
+                findings.add(new Finding(Severity.ERROR, pattern,
+                    String.format("%s: pattern '%s' repeats an ambiguous group and can backtrack catastrophically",
+                        listName, pattern)));
+            }
+            estimatedCost = saturatedAdd(estimatedCost, scanner.estimateCost());
+
+            final String canonicalPattern = canonicalize(pattern);
+            if (!scanner.isCatastrophic()) {
+                matchablePatterns.put(canonicalPattern, compiledPattern);
+            }
+            final String equivalentPattern = canonicalPatterns.putIfAbsent(canonicalPattern, pattern);
+            if (equivalentPattern != null) {
+                findings.add(new Finding(Severity.WARNING, pattern,
+                    String.format("%s: pattern '%s' is redundant with '%s'", listName, pattern, equivalentPattern)));
+            }
+        }
+
+        canonicalPatterns.forEach((canonicalPattern, pattern) ->
+            canonicalPatterns.forEach((broaderCanonical, broader) -> {
+                if (!canonicalPattern.equals(broaderCanonical) &&
+                    isSubsumed(canonicalPattern, broaderCanonical, matchablePatterns.get(broaderCanonical))) {
+                    findings.add(new Finding(Severity.WARNING, pattern,
+                        String.format("%s: pattern '%s' is subsumed by '%s'", listName, pattern, broader)));
+                }
+            }));
+
+        if (catastrophic) {
+            // already reported per pattern
+            return new Report(listName, findings, estimatedCost);
+        }
+        if (estimatedCost > WARN_ESTIMATED_COST) {
+            findings.add(new Finding(Severity.WARNING, null,
+                String.format("%s: estimated matching cost of %d steps per name is high", listName, estimatedCost)));
+        }
+
+        return new Report(listName, findings, estimatedCost);
+    }
+
+    /**
+     * Analyzes every pattern list of the model, logging warnings.
+     * @param model resource model
+     * @param logger logger for warnings
+     * @throws IllegalArgumentException listing every error found
+     */
+    static void validateReplicationPatterns(final ResourceModel model, final Logger logger) {
+        if (model.getReplicationInfoList() == null) {
+            return;
+        }
+
+        final List<Report> reports = new ArrayList<>();
+        model.getReplicationInfoList().forEach(replicationInfo -> {
+            final String prefix = String.format("ReplicationInfoList[%s->%s]",
+                replicationInfo.getSourceKafkaClusterArn(), replicationInfo.getTargetKafkaClusterArn());
+            final TopicReplication topicReplication = replicationInfo.getTopicReplication();
+            if (topicReplication != null) {
+                reports.add(analyze(prefix + ".TopicReplication.TopicsToReplicate",
+                    topicReplication.getTopicsToReplicate()));
+                reports.add(analyze(prefix + ".TopicReplication.TopicsToExclude",
+                    topicReplication.getTopicsToExclude()));
+            }
+            final ConsumerGroupReplication consumerGroupReplication = replicationInfo.getConsumerGroupReplication();
+            if (consumerGroupReplication != null) {
+                reports.add(analyze(prefix + ".ConsumerGroupReplication.ConsumerGroupsToReplicate",
+                    consumerGroupReplication.getConsumerGroupsToReplicate()));
+                reports.add(analyze(prefix + ".ConsumerGroupReplication.ConsumerGroupsToExclude",
+                    consumerGroupReplication.getConsumerGroupsToExclude()));
+            }
+        });
+
+        reports.forEach(report -> report.getWarnings().forEach(warning -> logger.log(warning.getMessage())));
+
+        final List<String> errors = reports.stream()
+            .flatMap(report -> report.getErrors().stream())
+            .map(Finding::getMessage)
+            .collect(Collectors.toList());
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", errors));
+        }
+    }
+
+    /**
+     * Names are matched in full, so leading and trailing anchors do not change what a pattern matches.
+     */
+    static String canonicalize(final String pattern) {
+        String canonicalPattern = pattern;
+        if (canonicalPattern.startsWith("^")) {
+            canonicalPattern = canonicalPattern.substring(1);
+        }
+        if (canonicalPattern.endsWith("$") && !canonicalPattern.endsWith("\\$")) {
+            canonicalPattern = canonicalPattern.substring(0, canonicalPattern.length() - 1);
+        }
+        return canonicalPattern;
+    }
+
+    /**
+     * Conservative subsumption: only reports cases that certainly hold. Literal patterns are only matched against
+     * broader patterns that are neither literal nor at risk of catastrophic backtracking.
+     * @param pattern canonical pattern
+     * @param broader canonical candidate broader pattern
+     * @param compiledBroader compiled broader pattern, null when it must not be matched
+     */
+    private static boolean isSubsumed(final String pattern, final String broader, final Pattern compiledBroader) {
+        if (MATCH_ANYTHING.equals(broader)) {
+            return true;
+        }
+        if (isLiteral(pattern)) {
+            return compiledBroader != null && !isLiteral(broader) && compiledBroader.matcher(pattern).matches();
+        }
+
+        final Matcher patternPrefix = LITERAL_PREFIX_WILDCARD.matcher(pattern);
+        final Matcher broaderPrefix = LITERAL_PREFIX_WILDCARD.matcher(broader);
+        return patternPrefix.matches() && broaderPrefix.matches() &&
+            patternPrefix.group(1).startsWith(broaderPrefix.group(1));
+    }
+
+    static boolean isLiteral(final String pattern) {
+        return !REGEX_METACHARACTERS.matcher(pattern).find();
+    }
+
+    private static long saturatedAdd(final long left, final long right) {
+        final long sum = left + right;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(final long left, final long right) {
+        if (left != 0 && right > Long.MAX_VALUE / left) {
+            return Long.MAX_VALUE;
+        }
+        return left * right;
+    }
+
+    /**
+     * Single pass over a regular expression, tracking quantifiers, groups and alternations. Possessive quantifiers
+     * and atomic groups never backtrack and are not counted.
+     */
+    private static final class PatternScanner {
+        private final String pattern;
+        private int position;
+        private int unboundedQuantifiers;
+        private boolean nestedQuantifier;
+        private boolean quantifiedOverlappingAlternation;
+
+        private PatternScanner(final String pattern) {
+            this.pattern = pattern;
+        }
+
+        void scan() {
+            while (position < pattern.length()) {
+                scanAlternation();
+                // unbalanced closing parenthesis, rejected by the compiler already
+                position++;
+            }
+        }
+
+        boolean isCatastrophic() {
+            return nestedQuantifier || quantifiedOverlappingAlternation;
+        }
+
+        long estimateCost() {
+            if (isCatastrophic()) {
+                return Long.MAX_VALUE;
+            }
+            long backtrackingCost = unboundedQuantifiers == 0 ? 0L : 1L;
+            for (int i = 0; i < unboundedQuantifiers; i++) {
+                backtrackingCost = saturatedMultiply(backtrackingCost, MAX_NAME_LENGTH);
+            }
+            return saturatedAdd(pattern.length(), backtrackingCost);
+        }
+
+        private List<Sequence> scanAlternation() {
+            final List<Sequence> alternatives = new ArrayList<>();
+            while (true) {
+                alternatives.add(scanSequence());
+                if (position < pattern.length() && pattern.charAt(position) == '|') {
+                    position++;
+                } else {
+                    return alternatives;
+                }
+            }
+        }
+
+        private Sequence scanSequence() {
+            final int start = position;
+            final Sequence sequence = new Sequence();
+            while (position < pattern.length() && pattern.charAt(position) != '|' && pattern.charAt(position) != ')') {
+                final char current = pattern.charAt(position);
+                final Sequence atom = new Sequence();
+                boolean quantifiable = true;
+                boolean wildcard = false;
+                boolean overlappingAlternatives = false;
+
+                if (current == '\\') {
+                    atom.mandatoryLiteral = isLiteralEscape();
+                    skipEscape();
+                } else if (current == '[') {
+                    skipCharacterClass();
+                } else if (current == '(') {
+                    position++;
+                    final GroupKind groupKind = scanGroupHeader();
+                    if (groupKind == GroupKind.FLAGS) {
+                        quantifiable = false;
+                    } else {
+                        final List<Sequence> alternatives = scanAlternation();
+                        position++;
+                        if (groupKind != GroupKind.ATOMIC) {
+                            atom.containsUnbounded = alternatives.stream()
+                                .anyMatch(alternative -> alternative.containsUnbounded);
+                            atom.unboundedWildcard = alternatives.stream()
+                                .anyMatch(alternative -> alternative.unboundedWildcard);
+                            overlappingAlternatives = hasOverlappingAlternatives(alternatives);
+                        }
+                        atom.mandatoryLiteral = groupKind != GroupKind.LOOKAROUND &&
+                            alternatives.stream().allMatch(alternative -> alternative.mandatoryLiteral);
+                    }
+                } else {
+                    wildcard = current == '.';
+                    atom.mandatoryLiteral = !wildcard && current != '^' && current != '$';
+                    position++;
+                }
+
+                final Quantifier quantifier = quantifiable ? scanQuantifier() : Quantifier.NONE;
+                if (quantifier == Quantifier.UNBOUNDED) {
+                    unboundedQuantifiers++;
+                    // a repeated group can only split the input in many ways when nothing but its repeated parts
+                    // separates one iteration from the next
+                    nestedQuantifier |= atom.containsUnbounded && (!atom.mandatoryLiteral || atom.unboundedWildcard);
+                    quantifiedOverlappingAlternation |= overlappingAlternatives;
+                    atom.containsUnbounded = true;
+                    atom.unboundedWildcard |= wildcard;
+                }
+                if (quantifier != Quantifier.NONE) {
+                    // only a literal matched exactly once delimits the repeated parts around it
+                    atom.mandatoryLiteral = false;
+                }
+
+                sequence.containsUnbounded |= atom.containsUnbounded;
+                sequence.unboundedWildcard |= atom.unboundedWildcard;
+                sequence.mandatoryLiteral |= atom.mandatoryLiteral;
+            }
+            sequence.text = pattern.substring(start, position);
+            return sequence;
+        }
+
+        /**
+         * Escapes of a single literal character, as opposed to character classes such as {@code \w} and
+         * assertions such as {@code \b}.
+         */
+        private boolean isLiteralEscape() {
+            return position + 1 < pattern.length() && !Character.isLetterOrDigit(pattern.charAt(position + 1));
+        }
+
+        private GroupKind scanGroupHeader() {
+            if (!pattern.startsWith("?", position)) {
+                return GroupKind.CAPTURING;
+            }
+            if (pattern.startsWith("?>", position)) {
+                position += 2;
+                return GroupKind.ATOMIC;
+            }
+            if (pattern.startsWith("?<=", position) || pattern.startsWith("?<!", position)) {
+                position += 3;
+                return GroupKind.LOOKAROUND;
+            }
+            if (pattern.startsWith("?<", position)) {
+                position = pattern.indexOf('>', position) + 1;
+                return GroupKind.CAPTURING;
+            }
+            if (pattern.startsWith("?=", position) || pattern.startsWith("?!", position)) {
+                position += 2;
+                return GroupKind.LOOKAROUND;
+            }
+            if (pattern.startsWith("?:", position)) {
+                position += 2;
+                return GroupKind.NON_CAPTURING;
+            }
+
+            // inline flags, either (?flags) or (?flags:...)
+            position++;
+            while (position < pattern.length() && pattern.charAt(position) != ')' && pattern.charAt(position) != ':') {
+                position++;
+            }
+            if (position < pattern.length() && pattern.charAt(position) == ')') {
+                position++;
+                return GroupKind.FLAGS;
+            }
+            position++;
+            return GroupKind.NON_CAPTURING;
+        }
+
+        private Quantifier scanQuantifier() {
+            if (position >= pattern.length()) {
+                return Quantifier.NONE;
+            }
+
+            final Quantifier quantifier;
+            final char current = pattern.charAt(position);
+            if (current == '*' || current == '+') {
+                position++;
+                quantifier = Quantifier.UNBOUNDED;
+            } else if (current == '?') {
+                position++;
+                quantifier = Quantifier.BOUNDED;
+            } else if (current == '{') {
+                final int end = pattern.indexOf('}', position);
+                if (end < 0 || !pattern.substring(position + 1, end).matches("\\d+(,\\d*)?")) {
+                    return Quantifier.NONE;
+                }
+                final String bounds = pattern.substring(position + 1, end);
+                position = end + 1;
+                quantifier = bounds.endsWith(",") ? Quantifier.UNBOUNDED : Quantifier.BOUNDED;
+            } else {
+                return Quantifier.NONE;
+            }
+
+            if (position < pattern.length() && pattern.charAt(position) == '?') {
+                position++;
+            } else if (position < pattern.length() && pattern.charAt(position) == '+') {
+                position++;
+                return Quantifier.POSSESSIVE;
+            }
+            return quantifier;
+        }
+
+        private void skipEscape() {
+            if (pattern.startsWith("\\Q", position)) {
+                final int end = pattern.indexOf("\\E", position + 2);
+                position = end < 0 ? pattern.length() : end + 2;
+                return;
+            }
+            position = Math.min(position + 2, pattern.length());
+        }
+
+        private void skipCharacterClass() {
+            int depth = 0;
+            while (position < pattern.length()) {
+                final char current = pattern.charAt(position);
+                if (current == '\\') {
+                    position += 2;
+                    continue;
+                }
+                position++;
+                if (current == '[') {
+                    depth++;
+                    // a closing bracket right after the opening one (or its negation) is a literal
+                    if (position < pattern.length() && pattern.charAt(position) == '^') {
+                        position++;
+                    }
+                    if (position < pattern.length() && pattern.charAt(position) == ']') {
+                        position++;
+                    }
+                } else if (current == ']' && --depth == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Alternatives overlap when one equals, or is a prefix of, another, or when one starts with a wildcard, so
+         * a quantifier over them can split the same input in many ways.
+         */
+        private static boolean hasOverlappingAlternatives(final List<Sequence> alternatives) {
+            if (alternatives.size() < 2) {
+                return false;
+            }
+            for (int i = 0; i < alternatives.size(); i++) {
+                final String alternative = alternatives.get(i).text;
+                if (alternative.isEmpty() || alternative.startsWith(".")) {
+                    return true;
+                }
+                for (int j = 0; j < alternatives.size(); j++) {
+                    if (i != j && alternatives.get(j).text.startsWith(alternative)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * What the scanner knows about a sequence of atoms: whether it contains an unbounded quantifier, an unbounded
+     * wildcard, and an unrepeated literal character that every match must contain.
+     */
+    private static final class Sequence {
+        private String text;
+        private boolean containsUnbounded;
+        private boolean unboundedWildcard;
+        private boolean mandatoryLiteral;
+    }
+
+    private enum GroupKind {
+        CAPTURING,
+        NON_CAPTURING,
+        LOOKAROUND,
+        ATOMIC,
+        FLAGS
+    }
+
+    private enum Quantifier {
+        NONE,
+        BOUNDED,
+        UNBOUNDED,
+        POSSESSIVE
+    }
+}
@@ -45,7 +45,7 @@ public class ReadHandler extends BaseHandlerStd {
         final String clientRequestToken) {
 
         DescribeReplicatorResponse describeReplicatorResponse =
-            proxyClient.injectCredentialsAndInvokeV2(describeReplicatorRequest, proxyClient.client()::describeReplicator);
+            describeReplicator(proxyClient, describeReplicatorRequest);
 
         logger.log(String.format("[ClientRequestToken: %s] Successfully read Replicator %s", clientRequestToken,
             describeReplicatorRequest.replicatorArn()));
@@ -0,0 +1,132 @@
+package software.amazon.msk.replicator;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * JDK Flight Recorder events of the handlers: call graph stages such as AWS-MSK-Replicator::Create, stabilization
+ * polls and Translator conversions, each with its duration, so that GC, safepoints and allocation in a recording can
+ * be tied to what the handler was doing.
+ *
+ * The handlers run on java8, where jdk.jfr does not exist, so this class never references it. The events are only
+ * emitted, through {@link FlightRecorderEvents}, when the environment variable JFR_EVENTS is true or
+ * JFR_RECORDING_DIRECTORY is set and the runtime provides jdk.jfr; otherwise every method just runs its argument.
+ *
+ * Setting JFR_RECORDING_DIRECTORY records invocations with the profile settings and dumps each one to its own file in
+ * that directory; JFR_RECORDING_CLIENT_REQUEST_TOKEN restricts this to one invocation.
+ */
+public final class ReplicatorEvents {
+    static final String EVENTS_VARIABLE = "JFR_EVENTS";
+    static final String RECORDING_DIRECTORY_VARIABLE = "JFR_RECORDING_DIRECTORY";
+    static final String RECORDING_CLIENT_REQUEST_TOKEN_VARIABLE = "JFR_RECORDING_CLIENT_REQUEST_TOKEN";
+    static final String FLIGHT_RECORDER_CLASS_NAME = "jdk.jfr.Event";
+
+    static final boolean ENABLED = isEnabled(System.getenv()) && isFlightRecorderAvailable();
+
+    private static final Span NO_SPAN = () -> {
+    };
+
+    private ReplicatorEvents() {
+    }
+
+    /**
+     * Duration of a conversion, ended by {@link #commit()}.
+     */
+    interface Span {
+        void commit();
+    }
+
+    static boolean isEnabled(final Map<String, String> environment) {
+        final String recordingDirectory = environment.get(RECORDING_DIRECTORY_VARIABLE);
+        return Boolean.parseBoolean(environment.get(EVENTS_VARIABLE))
+            || (recordingDirectory != null && !recordingDirectory.isEmpty());
+    }
+
+    static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName(FLIGHT_RECORDER_CLASS_NAME, false, ReplicatorEvents.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs a call graph stage of a handler.
+     *
+     * @param stage call graph name of the stage
+     * @param model resource model of the stage
+     * @param stageCall the stage
+     * @return progress of the stage
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> stage(
+        final String stage,
+        final ResourceModel model,
+        final Supplier<ProgressEvent<ResourceModel, CallbackContext>> stageCall) {
+
+        if (!ENABLED) {
+            return stageCall.get();
+        }
+        return FlightRecorderEvents.stage(stage, model, stageCall);
+    }
+
+    /**
+     * Runs one stabilization poll; the replicator state it reads is recorded by {@link #observeState(String)}.
+     *
+     * @param stage call graph name of the stage being stabilized
+     * @param replicatorArn replicator arn
+     * @param poll the poll, true once stabilized
+     * @return whether the stage is stabilized
+     */
+    static boolean stabilizationPoll(final String stage, final String replicatorArn, final BooleanSupplier poll) {
+        if (!ENABLED) {
+            return poll.getAsBoolean();
+        }
+        return FlightRecorderEvents.stabilizationPoll(stage, replicatorArn, poll);
+    }
+
+    /**
+     * Records the replicator state read by the stabilization poll running on this thread, if any.
+     *
+     * @param state replicator state
+     */
+    static void observeState(final String state) {
+        if (ENABLED) {
+            FlightRecorderEvents.observeState(state);
+        }
+    }
+
+    static Span beginConversion(final String conversion, final String replicatorArn) {
+        if (!ENABLED) {
+            return NO_SPAN;
+        }
+        return FlightRecorderEvents.beginConversion(conversion, replicatorArn);
+    }
+
+    /**
+     * Runs a handler invocation, recorded to its own file when JFR_RECORDING_DIRECTORY is set and the invocation
+     * matches JFR_RECORDING_CLIENT_REQUEST_TOKEN, if that is set.
+     *
+     * @param handlerName name of the handler
+     * @param clientRequestToken client request token of the invocation
+     * @param logger logger of the invocation
+     * @param invocation the invocation
+     * @return progress of the invocation
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> recordInvocation(
+        final String handlerName,
+        final String clientRequestToken,
+        final Logger logger,
+        final Supplier<ProgressEvent<ResourceModel, CallbackContext>> invocation) {
+
+        if (!ENABLED) {
+            return invocation.get();
+        }
+        return FlightRecorderEvents.recordInvocation(System.getenv(), handlerName, clientRequestToken, logger,
+            invocation);
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.msk.replicator;
+
+import java.util.Set;
+
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+import software.amazon.awssdk.services.kafka.model.ReplicatorSummary;
+
+/**
+ * Optional filter of the replicators streamed by a {@link ListReplicatorsPaginator}. The name prefix is evaluated
+ * server side by ListReplicators, so pages only carry matching replicators; the state filter is evaluated locally on
+ * each summary. The List handler does not filter, CloudFormation passes it no filter to apply.
+ */
+@lombok.Getter
+@lombok.Builder
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class ReplicatorFilter {
+    public static final ReplicatorFilter NONE = ReplicatorFilter.builder().build();
+
+    /**
+     * Only replicators whose name starts with this prefix are listed, all replicators when null.
+     */
+    private final String namePrefix;
+
+    /**
+     * Only replicators in one of these states are listed, all states when empty.
+     */
+    @lombok.Singular
+    private final Set<ReplicatorState> states;
+
+    /**
+     * @param replicatorSummary the replicator summary returned by the aws service list resources response
+     * @return whether the replicator passes the filter
+     */
+    public boolean matches(final ReplicatorSummary replicatorSummary) {
+        if (namePrefix != null && (replicatorSummary.replicatorName() == null ||
+            !replicatorSummary.replicatorName().startsWith(namePrefix))) {
+            return false;
+        }
+        return states.isEmpty() || states.contains(replicatorSummary.replicatorState());
+    }
+}
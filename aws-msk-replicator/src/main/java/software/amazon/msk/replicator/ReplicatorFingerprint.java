@@ -0,0 +1,205 @@
+package software.amazon.msk.replicator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Canonical view of a replicator configuration: every configured property flattened into a sorted map of property
+ * path to value, with unordered collections sorted and read-only properties (arn, current version) left out. Two
+ * models describing the same configuration produce the same canonical properties and the same hash, regardless of
+ * set iteration order.
+ *
+ * Unset properties and empty collections are omitted rather than recorded as null. Restricting an actual
+ * configuration to the properties of an expected one ignores scalar properties the template does not specify, the
+ * same way CloudFormation drift detection only compares properties present in the template. Set-valued properties,
+ * such as the replication flows, the Kafka clusters, the topic and consumer group pattern sets and the tags, are
+ * always compared in full, so an extra flow or pattern added out of band is reported as drift. Tags reserved by AWS,
+ * prefixed with aws:, are left out.
+ */
+@lombok.EqualsAndHashCode(of = "properties")
+@lombok.ToString(of = "properties")
+public final class ReplicatorFingerprint {
+    private static final String LIST_SEPARATOR = "\n";
+    private static final String RESERVED_TAG_PREFIX = "aws:";
+    private static final List<String> SET_VALUED_PROPERTIES = Arrays.asList(
+        ".VpcConfig.SecurityGroupIds",
+        ".VpcConfig.SubnetIds",
+        ".TopicReplication.TopicsToReplicate",
+        ".TopicReplication.TopicsToExclude",
+        ".ConsumerGroupReplication.ConsumerGroupsToReplicate",
+        ".ConsumerGroupReplication.ConsumerGroupsToExclude");
+
+    private final SortedMap<String, String> properties;
+    private String hash;
+
+    private ReplicatorFingerprint(final SortedMap<String, String> properties) {
+        this.properties = Collections.unmodifiableSortedMap(properties);
+    }
+
+    /**
+     * @param model resource model
+     * @param includeTags whether resource tags are part of the fingerprint
+     * @return canonical fingerprint of the model configuration
+     */
+    public static ReplicatorFingerprint of(final ResourceModel model, final boolean includeTags) {
+        final SortedMap<String, String> properties = new TreeMap<>();
+
+        put(properties, "ReplicatorName", model.getReplicatorName());
+        put(properties, "Description", model.getDescription());
+        put(properties, "ServiceExecutionRoleArn", model.getServiceExecutionRoleArn());
+
+        if (model.getKafkaClusters() != null) {
+            model.getKafkaClusters().forEach(kafkaCluster -> {
+                final String prefix = String.format("KafkaClusters[%s]", kafkaCluster.getAmazonMskCluster() == null ?
+                    null : kafkaCluster.getAmazonMskCluster().getMskClusterArn());
+                properties.put(prefix, "");
+                if (kafkaCluster.getVpcConfig() != null) {
+                    put(properties, prefix + ".VpcConfig.SecurityGroupIds", kafkaCluster.getVpcConfig().getSecurityGroupIds());
+                    put(properties, prefix + ".VpcConfig.SubnetIds", kafkaCluster.getVpcConfig().getSubnetIds());
+                }
+            });
+        }
+
+        if (model.getReplicationInfoList() != null) {
+            model.getReplicationInfoList().forEach(replicationInfo -> {
+                final String prefix = String.format("ReplicationInfoList[%s->%s]",
+                    replicationInfo.getSourceKafkaClusterArn(), replicationInfo.getTargetKafkaClusterArn());
+                properties.put(prefix, "");
+                put(properties, prefix + ".TargetCompressionType", replicationInfo.getTargetCompressionType());
+
+                final TopicReplication topicReplication = replicationInfo.getTopicReplication();
+                if (topicReplication != null) {
+                    put(properties, prefix + ".TopicReplication.TopicsToReplicate", topicReplication.getTopicsToReplicate());
+                    put(properties, prefix + ".TopicReplication.TopicsToExclude", topicReplication.getTopicsToExclude());
+                    put(properties, prefix + ".TopicReplication.CopyTopicConfigurations",
+                        topicReplication.getCopyTopicConfigurations());
+                    put(properties, prefix + ".TopicReplication.CopyAccessControlListsForTopics",
+                        topicReplication.getCopyAccessControlListsForTopics());
+                    put(properties, prefix + ".TopicReplication.DetectAndCopyNewTopics",
+                        topicReplication.getDetectAndCopyNewTopics());
+                    if (topicReplication.getStartingPosition() != null) {
+                        put(properties, prefix + ".TopicReplication.StartingPosition.Type",
+                            topicReplication.getStartingPosition().getType());
+                    }
+                }
+
+                final ConsumerGroupReplication consumerGroupReplication = replicationInfo.getConsumerGroupReplication();
+                if (consumerGroupReplication != null) {
+                    put(properties, prefix + ".ConsumerGroupReplication.ConsumerGroupsToReplicate",
+                        consumerGroupReplication.getConsumerGroupsToReplicate());
+                    put(properties, prefix + ".ConsumerGroupReplication.ConsumerGroupsToExclude",
+                        consumerGroupReplication.getConsumerGroupsToExclude());
+                    put(properties, prefix + ".ConsumerGroupReplication.SynchroniseConsumerGroupOffsets",
+                        consumerGroupReplication.getSynchroniseConsumerGroupOffsets());
+                    put(properties, prefix + ".ConsumerGroupReplication.DetectAndCopyNewConsumerGroups",
+                        consumerGroupReplication.getDetectAndCopyNewConsumerGroups());
+                }
+            });
+        }
+
+        if (includeTags) {
+            TagHelper.convertToMap(model.getTags()).forEach((key, value) -> {
+                if (!key.startsWith(RESERVED_TAG_PREFIX)) {
+                    properties.put(String.format("Tags[%s]", key), value);
+                }
+            });
+        }
+
+        return new ReplicatorFingerprint(properties);
+    }
+
+    /**
+     * @return canonical property path to value map
+     */
+    public SortedMap<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return stable SHA-256 hash of the canonical properties
+     */
+    public synchronized String getHash() {
+        if (hash == null) {
+            final StringBuilder canonicalForm = new StringBuilder();
+            properties.forEach((path, value) -> canonicalForm.append(path).append('=').append(value).append('\0'));
+            hash = Hashing.sha256().hashString(canonicalForm, StandardCharsets.UTF_8).toString();
+        }
+        return hash;
+    }
+
+    /**
+     * @param expected fingerprint whose properties are kept
+     * @return this fingerprint limited to the property paths present in the expected fingerprint, and to its
+     *     set-valued properties, which are kept in full
+     */
+    public ReplicatorFingerprint restrictTo(final ReplicatorFingerprint expected) {
+        final SortedMap<String, String> restricted = new TreeMap<>();
+        properties.forEach((path, value) -> {
+            if (expected.properties.containsKey(path) || isSetValued(path)) {
+                restricted.put(path, value);
+            }
+        });
+        return new ReplicatorFingerprint(restricted);
+    }
+
+    /**
+     * @param expected fingerprint of the expected configuration
+     * @return whether every property of the expected configuration has the expected value in this one, and the
+     *     set-valued properties of both are equal
+     */
+    public boolean matches(final ReplicatorFingerprint expected) {
+        return expected.getHash().equals(restrictTo(expected).getHash());
+    }
+
+    /**
+     * @param actual fingerprint of the actual configuration
+     * @return sorted property paths of this expected configuration whose value differs in the actual one, and
+     *     set-valued property paths only the actual one has
+     */
+    public List<String> diff(final ReplicatorFingerprint actual) {
+        final SortedSet<String> differences = new TreeSet<>();
+        properties.forEach((path, value) -> {
+            if (!Objects.equals(value, actual.properties.get(path))) {
+                differences.add(path);
+            }
+        });
+        actual.properties.keySet().forEach(path -> {
+            if (isSetValued(path) && !properties.containsKey(path)) {
+                differences.add(path);
+            }
+        });
+        return new ArrayList<>(differences);
+    }
+
+    /**
+     * @return whether the path is a member of a set, such as a replication flow or a tag, or a pattern or id set
+     */
+    private static boolean isSetValued(final String path) {
+        return path.endsWith("]") || SET_VALUED_PROPERTIES.stream().anyMatch(path::endsWith);
+    }
+
+    private static void put(final Map<String, String> properties, final String path, final Object value) {
+        if (value != null) {
+            properties.put(path, value.toString());
+        }
+    }
+
+    private static void put(final Map<String, String> properties, final String path, final Collection<String> values) {
+        if (values != null && !values.isEmpty()) {
+            properties.put(path, new TreeSet<>(values).stream().collect(Collectors.joining(LIST_SEPARATOR)));
+        }
+    }
+}
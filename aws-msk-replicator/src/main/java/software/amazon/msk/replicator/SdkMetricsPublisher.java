@@ -0,0 +1,182 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * SDK metric publisher aggregating the calls of an invocation per API: calls, failures, retries and throttled
+ * attempts, and latency histograms of the whole call, of each attempt's round trip, of the time to the first response
+ * byte and of connection acquisition. A slow attempt with a fast connection acquisition points at the service, a slow
+ * acquisition at the network or the connection pool; the gap between call and attempt latencies is retries and
+ * backoff. The handlers flush the aggregate at the end of each invocation as a single JSON log record.
+ */
+public class SdkMetricsPublisher implements MetricPublisher {
+    public static final SdkMetricsPublisher SHARED = new SdkMetricsPublisher();
+
+    static final String RECORD_NAME = "SdkMetrics";
+    static final String API_CALL = "apiCallMillis";
+    static final String SERVICE_CALL = "serviceCallMillis";
+    static final String TIME_TO_FIRST_BYTE = "timeToFirstByteMillis";
+    static final String CONNECTION_ACQUIRE = "connectionAcquireMillis";
+    static final String THROTTLING_ERROR_TYPE = "Throttling";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Map<String, ApiMetrics> metricsByApi = new TreeMap<>();
+
+    @Override
+    public synchronized void publish(final MetricCollection apiCall) {
+        final List<String> operationNames = apiCall.metricValues(CoreMetric.OPERATION_NAME);
+        final ApiMetrics metrics = metricsByApi.computeIfAbsent(
+            operationNames.isEmpty() ? "Unknown" : operationNames.get(0), ignored -> new ApiMetrics());
+
+        metrics.calls++;
+        if (apiCall.metricValues(CoreMetric.API_CALL_SUCCESSFUL).contains(Boolean.FALSE)) {
+            metrics.failures++;
+        }
+        metrics.retries += apiCall.metricValues(CoreMetric.RETRY_COUNT).stream().mapToInt(Integer::intValue).sum();
+        apiCall.metricValues(CoreMetric.API_CALL_DURATION).forEach(metrics.histogram(API_CALL)::record);
+
+        for (final MetricCollection attempt : apiCall.children()) {
+            if (attempt.metricValues(CoreMetric.ERROR_TYPE).contains(THROTTLING_ERROR_TYPE)) {
+                metrics.throttledAttempts++;
+            }
+            attempt.metricValues(CoreMetric.SERVICE_CALL_DURATION).forEach(metrics.histogram(SERVICE_CALL)::record);
+            attempt.metricValues(CoreMetric.TIME_TO_FIRST_BYTE).forEach(metrics.histogram(TIME_TO_FIRST_BYTE)::record);
+            for (final MetricCollection httpClient : attempt.children()) {
+                httpClient.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)
+                    .forEach(metrics.histogram(CONNECTION_ACQUIRE)::record);
+            }
+        }
+    }
+
+    /**
+     * Logs the metrics aggregated since the last flush as one record and resets them; logs nothing when no call was
+     * made.
+     *
+     * @param logger logger of the invocation
+     */
+    public void flush(final Logger logger) {
+        final Map<String, Object> record = drain();
+        if (record == null) {
+            return;
+        }
+        try {
+            logger.log(OBJECT_MAPPER.writeValueAsString(record));
+        } catch (final JsonProcessingException e) {
+            logger.log(String.format("%s could not be serialized: %s", RECORD_NAME, e.getMessage()));
+        }
+    }
+
+    /**
+     * @return the aggregated metrics as a log record, null when no call was made
+     */
+    synchronized Map<String, Object> drain() {
+        if (metricsByApi.isEmpty()) {
+            return null;
+        }
+        final Map<String, Object> apis = new LinkedHashMap<>();
+        metricsByApi.forEach((api, metrics) -> apis.put(api, metrics.toMap()));
+        metricsByApi.clear();
+
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put(RECORD_NAME, apis);
+        return record;
+    }
+
+    @Override
+    public void close() {
+        // the shared publisher outlives the clients it is attached to
+    }
+
+    private static final class ApiMetrics {
+        private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        private long calls;
+        private long failures;
+        private long retries;
+        private long throttledAttempts;
+
+        private LatencyHistogram histogram(final String name) {
+            return histograms.computeIfAbsent(name, ignored -> new LatencyHistogram());
+        }
+
+        private Map<String, Object> toMap() {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            map.put("calls", calls);
+            map.put("failures", failures);
+            map.put("retries", retries);
+            map.put("throttledAttempts", throttledAttempts);
+            histograms.forEach((name, histogram) -> map.put(name, histogram.toMap()));
+            return map;
+        }
+    }
+
+    /**
+     * Latency histogram with fixed, roughly logarithmic bucket bounds in milliseconds. Percentiles are reported as the
+     * upper bound of the bucket they fall in, capped by the maximum.
+     */
+    static final class LatencyHistogram {
+        static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+
+        private final long[] bucketCounts = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+        private long count;
+        private long sumMillis;
+        private long maxMillis;
+
+        void record(final Duration duration) {
+            final long millis = duration.toMillis();
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            bucketCounts[bucket]++;
+            count++;
+            sumMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        long percentileMillis(final double percentile) {
+            final long rank = (long) Math.ceil(percentile / 100.0 * count);
+            long seen = 0;
+            for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+                seen += bucketCounts[bucket];
+                if (seen >= rank && bucketCounts[bucket] > 0) {
+                    return bucket < BUCKET_BOUNDS_MILLIS.length ?
+                        Math.min(BUCKET_BOUNDS_MILLIS[bucket], maxMillis) : maxMillis;
+                }
+            }
+            return maxMillis;
+        }
+
+        Map<String, Object> toMap() {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("mean", count == 0 ? 0 : sumMillis / count);
+            map.put("p50", percentileMillis(50.0));
+            map.put("p90", percentileMillis(90.0));
+            map.put("p99", percentileMillis(99.0));
+            map.put("max", maxMillis);
+            final Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+                if (bucketCounts[bucket] > 0) {
+                    buckets.put(bucket < BUCKET_BOUNDS_MILLIS.length ? "le" + BUCKET_BOUNDS_MILLIS[bucket] : "inf",
+                        bucketCounts[bucket]);
+                }
+            }
+            map.put("buckets", buckets);
+            return map;
+        }
+    }
+}
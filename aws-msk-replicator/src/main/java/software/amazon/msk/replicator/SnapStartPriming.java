@@ -0,0 +1,101 @@
+package software.amazon.msk.replicator;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+/**
+ * Checkpoint and restore hooks for Lambda SnapStart, or any CRaC runtime. Before the checkpoint, the
+ * ColdStartTraining invocations run every handler against an in-memory client, so the snapshot holds loaded and
+ * initialized classes, Jackson serializers and logging; in Lambda the service client is built as well. After the
+ * restore the service client and its connections are dropped and, in Lambda, a new connection is warmed up, rather
+ * than reusing connections and credentials captured in the snapshot. The hooks are only registered in a SnapStart
+ * function or on a CRaC runtime, elsewhere the CRaC classes are never loaded.
+ *
+ * The training invocations live in src/training and are only packaged by the snapstart and cds profiles; in the
+ * default jar they are missing and the checkpoint hook only builds the service client.
+ */
+public final class SnapStartPriming implements Resource {
+    private static final Logger LOG = LogManager.getLogger(SnapStartPriming.class);
+    static final String INITIALIZATION_TYPE_VARIABLE = "AWS_LAMBDA_INITIALIZATION_TYPE";
+    static final String SNAP_START_INITIALIZATION_TYPE = "snap-start";
+    static final String[] CRAC_CLASS_NAMES = {"jdk.crac.Core", "javax.crac.Core"};
+
+    private static final String TRAINING_CLASS_NAME = "software.amazon.msk.replicator.ColdStartTraining";
+    // the global context only keeps a weak reference to its resources
+    private static final SnapStartPriming INSTANCE = new SnapStartPriming();
+
+    private SnapStartPriming() {
+    }
+
+    /**
+     * Registers the hooks with the global context, once per class loader, when CRaC is present.
+     */
+    static void register() {
+        if (isCracAvailable(System.getenv())) {
+            Core.getGlobalContext().register(INSTANCE);
+        }
+    }
+
+    /**
+     * @param environment environment variables of the function
+     * @return whether Lambda initializes the function for SnapStart, or the runtime provides CRaC
+     */
+    static boolean isCracAvailable(final Map<String, String> environment) {
+        if (SNAP_START_INITIALIZATION_TYPE.equals(environment.get(INITIALIZATION_TYPE_VARIABLE))) {
+            return true;
+        }
+        for (final String cracClassName : CRAC_CLASS_NAMES) {
+            try {
+                Class.forName(cracClassName, false, SnapStartPriming.class.getClassLoader());
+                return true;
+            } catch (final ClassNotFoundException | LinkageError e) {
+                // not this implementation
+            }
+        }
+        return false;
+    }
+
+    static SnapStartPriming getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        try {
+            runTraining();
+            if (System.getenv(ClientBuilder.LAMBDA_FUNCTION_NAME_VARIABLE) != null) {
+                ClientBuilder.getClient();
+            }
+        } catch (final Exception e) {
+            // priming is best effort, a snapshot without it is still a valid snapshot
+            LOG.error("Priming before checkpoint failed", e);
+        }
+    }
+
+    private static void runTraining() throws ReflectiveOperationException {
+        final Class<?> trainingClass;
+        try {
+            trainingClass = Class.forName(TRAINING_CLASS_NAME);
+        } catch (final ClassNotFoundException e) {
+            LOG.info("Packaged without the training invocations, skipping them");
+            return;
+        }
+        final Method run = trainingClass.getDeclaredMethod("run", software.amazon.cloudformation.proxy.Logger.class);
+        run.setAccessible(true);
+        run.invoke(null, new LoggerProxy());
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        ClientBuilder.reset();
+        ClientBuilder.warmUp();
+    }
+}
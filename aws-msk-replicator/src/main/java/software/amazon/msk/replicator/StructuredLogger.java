@@ -0,0 +1,162 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Logs JSON records carrying the message and key-value fields such as the replicator arn, client request token and
+ * state, so they can be filtered in CloudWatch Logs Insights instead of parsed out of the message.
+ *
+ * Stabilization polls repeat the same record every few seconds for as long as the replicator takes to stabilize. They
+ * go through {@link #poll(CallbackContext, Object, Supplier)}, which logs the first poll, every state change, and
+ * otherwise one poll per interval, counting the polls suppressed in between. The counts are kept in the callback
+ * context, so they survive the re-invocations of a long stabilization, and the messages of suppressed polls are never
+ * formatted. The interval is set in seconds through the environment variable LOG_POLL_INTERVAL_SECONDS, 0 logs every
+ * poll. The last poll, which found the replicator stabilized or failed, goes through
+ * {@link #lastPoll(CallbackContext, Object, String)} and is always logged.
+ */
+public final class StructuredLogger {
+    static final String MESSAGE = "message";
+    static final String REPLICATOR_ARN = "replicatorArn";
+    static final String CLIENT_REQUEST_TOKEN = "clientRequestToken";
+    static final String STATE = "state";
+    static final String POLL = "poll";
+    static final String SUPPRESSED_POLLS = "suppressedPolls";
+
+    static final String POLL_INTERVAL_VARIABLE = "LOG_POLL_INTERVAL_SECONDS";
+    static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMinutes(5L);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration POLL_INTERVAL = pollInterval(System.getenv());
+
+    private final Logger logger;
+    private final Map<String, Object> fields;
+    private final Duration pollInterval;
+    private final LongSupplier clock;
+
+    private StructuredLogger(final Logger logger, final Map<String, Object> fields, final Duration pollInterval,
+        final LongSupplier clock) {
+        this.logger = logger;
+        this.fields = fields;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * @param logger logger of the invocation
+     * @return structured logger without fields
+     */
+    public static StructuredLogger of(final Logger logger) {
+        return of(logger, POLL_INTERVAL, System::currentTimeMillis);
+    }
+
+    static StructuredLogger of(final Logger logger, final Duration pollInterval, final LongSupplier clock) {
+        return new StructuredLogger(logger, Collections.emptyMap(), pollInterval, clock);
+    }
+
+    static Duration pollInterval(final Map<String, String> environment) {
+        final String value = environment.get(POLL_INTERVAL_VARIABLE);
+        if (value != null && !value.trim().isEmpty()) {
+            try {
+                final long seconds = Long.parseLong(value.trim());
+                if (seconds >= 0L) {
+                    return Duration.ofSeconds(seconds);
+                }
+            } catch (final NumberFormatException e) {
+                // falls back to the default below
+            }
+        }
+        return DEFAULT_POLL_INTERVAL;
+    }
+
+    /**
+     * @param key field name
+     * @param value field value, fields with null values are left out of the records
+     * @return structured logger adding the field to its records
+     */
+    public StructuredLogger with(final String key, final Object value) {
+        final Map<String, Object> withField = new LinkedHashMap<>(fields);
+        withField.put(key, value);
+        return new StructuredLogger(logger, Collections.unmodifiableMap(withField), pollInterval, clock);
+    }
+
+    /**
+     * @param message message of the record
+     */
+    public void log(final String message) {
+        write(message, fields);
+    }
+
+    /**
+     * Logs a stabilization poll, sampled through the poll counts of the callback context.
+     *
+     * @param callbackContext callback context of the stabilizing operation
+     * @param state state read by the poll
+     * @param message message of the record, only formatted when the poll is logged
+     */
+    public void poll(final CallbackContext callbackContext, final Object state, final Supplier<String> message) {
+        final long now = clock.getAsLong();
+        final String polledState = String.valueOf(state);
+        final long poll = callbackContext.getPolls() + 1L;
+        callbackContext.setPolls(poll);
+        final Long loggedPollAt = callbackContext.getLoggedPollAt();
+        if (poll > 1L && polledState.equals(callbackContext.getLoggedPollState()) && loggedPollAt != null
+            && now - loggedPollAt < pollInterval.toMillis()) {
+            callbackContext.setSuppressedPolls(callbackContext.getSuppressedPolls() + 1L);
+            return;
+        }
+        writePoll(state, message.get(), poll, callbackContext.getSuppressedPolls());
+        callbackContext.setLoggedPollState(polledState);
+        callbackContext.setLoggedPollAt(now);
+        callbackContext.setSuppressedPolls(0L);
+    }
+
+    /**
+     * Logs the last stabilization poll and resets the poll counts of the callback context, the next poll starts over.
+     *
+     * @param callbackContext callback context of the stabilizing operation
+     * @param state state read by the poll
+     * @param message message of the record
+     */
+    public void lastPoll(final CallbackContext callbackContext, final Object state, final String message) {
+        writePoll(state, message, callbackContext.getPolls() + 1L, callbackContext.getSuppressedPolls());
+        callbackContext.setPolls(0L);
+        callbackContext.setSuppressedPolls(0L);
+        callbackContext.setLoggedPollState(null);
+        callbackContext.setLoggedPollAt(null);
+    }
+
+    private void writePoll(final Object state, final String message, final long poll, final long suppressedPolls) {
+        final Map<String, Object> pollFields = new LinkedHashMap<>(fields);
+        pollFields.put(STATE, state);
+        pollFields.put(POLL, poll);
+        if (suppressedPolls > 0L) {
+            pollFields.put(SUPPRESSED_POLLS, suppressedPolls);
+        }
+        write(message, pollFields);
+    }
+
+    private void write(final String message, final Map<String, Object> recordFields) {
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put(MESSAGE, message);
+        recordFields.forEach((key, value) -> {
+            if (value != null) {
+                record.put(key, value instanceof Enum ? value.toString() : value);
+            }
+        });
+        try {
+            logger.log(OBJECT_MAPPER.writeValueAsString(record));
+        } catch (final JsonProcessingException e) {
+            logger.log(String.format("%s %s", record.get(MESSAGE), recordFields));
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package software.amazon.msk.replicator;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -9,7 +8,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.amazonaws.util.CollectionUtils;
 import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.kafka.model.AmazonMskCluster;
 import software.amazon.awssdk.services.kafka.model.ConsumerGroupReplication;
@@ -23,6 +21,7 @@ import software.amazon.awssdk.services.kafka.model.KafkaClusterClientVpcConfig;
 import software.amazon.awssdk.services.kafka.model.ListReplicatorsRequest;
 import software.amazon.awssdk.services.kafka.model.ListReplicatorsResponse;
 import software.amazon.awssdk.services.kafka.model.ReplicationInfo;
+import software.amazon.awssdk.services.kafka.model.ReplicationStartingPosition;
 import software.amazon.awssdk.services.kafka.model.ReplicatorSummary;
 import software.amazon.awssdk.services.kafka.model.TagResourceRequest;
 import software.amazon.awssdk.services.kafka.model.TopicReplication;
@@ -46,6 +45,17 @@ public class Translator {
    */
   static CreateReplicatorRequest translateToCreateRequest(final ResourceModel model,
       final Map<String, String> tagsForCreate) {
+    final ReplicatorEvents.Span conversion =
+      ReplicatorEvents.beginConversion("translateToCreateRequest", model.getReplicatorArn());
+    try {
+      return buildCreateRequest(model, tagsForCreate);
+    } finally {
+      conversion.commit();
+    }
+  }
+
+  private static CreateReplicatorRequest buildCreateRequest(final ResourceModel model,
+      final Map<String, String> tagsForCreate) {
     return CreateReplicatorRequest.builder()
       .replicatorName(model.getReplicatorName())
       .description(model.getDescription())
@@ -77,6 +87,8 @@ public class Translator {
             .copyAccessControlListsForTopics(replicationInfo.getTopicReplication().getCopyAccessControlListsForTopics())
             .copyTopicConfigurations(replicationInfo.getTopicReplication().getCopyTopicConfigurations())
             .detectAndCopyNewTopics(replicationInfo.getTopicReplication().getDetectAndCopyNewTopics())
+            .startingPosition(translateToReplicationStartingPosition(
+              replicationInfo.getTopicReplication().getStartingPosition()))
             .build())
           .build())
         .collect(Collectors.toList()))
@@ -85,6 +97,36 @@ public class Translator {
       .build();
   }
 
+  /**
+   * Starting position of a new replicator, left unset when not configured so the service default applies
+   * @param startingPosition starting position of the resource model
+   * @return starting position of the aws service request
+   */
+  private static ReplicationStartingPosition translateToReplicationStartingPosition(
+      final software.amazon.msk.replicator.ReplicationStartingPosition startingPosition) {
+    if (startingPosition == null) {
+      return null;
+    }
+    return ReplicationStartingPosition.builder()
+      .type(startingPosition.getType())
+      .build();
+  }
+
+  /**
+   * Starting position reported for a replicator
+   * @param startingPosition starting position of the aws service response
+   * @return starting position of the resource model
+   */
+  private static software.amazon.msk.replicator.ReplicationStartingPosition translateFromReplicationStartingPosition(
+      final ReplicationStartingPosition startingPosition) {
+    if (startingPosition == null) {
+      return null;
+    }
+    return software.amazon.msk.replicator.ReplicationStartingPosition.builder()
+      .type(startingPosition.typeAsString())
+      .build();
+  }
+
   /**
    * Request to read a resource
    * @param model resource model
@@ -102,6 +144,16 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final DescribeReplicatorResponse describeReplicatorResponse) {
+    final ReplicatorEvents.Span conversion =
+      ReplicatorEvents.beginConversion("translateFromReadResponse", describeReplicatorResponse.replicatorArn());
+    try {
+      return buildModelFromReadResponse(describeReplicatorResponse);
+    } finally {
+      conversion.commit();
+    }
+  }
+
+  private static ResourceModel buildModelFromReadResponse(final DescribeReplicatorResponse describeReplicatorResponse) {
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L58-L73
     Map<String, String> kafkaClusterAliasToArnMap = describeReplicatorResponse
       .kafkaClusters()
@@ -140,6 +192,8 @@ public class Translator {
             .copyTopicConfigurations(replicationInfo.topicReplication().copyTopicConfigurations())
             .copyAccessControlListsForTopics(replicationInfo.topicReplication().copyAccessControlListsForTopics())
             .detectAndCopyNewTopics(replicationInfo.topicReplication().detectAndCopyNewTopics())
+            .startingPosition(translateFromReplicationStartingPosition(
+              replicationInfo.topicReplication().startingPosition()))
             .build())
           .consumerGroupReplication(software.amazon.msk.replicator.ConsumerGroupReplication.builder()
             .consumerGroupsToReplicate(Sets.newHashSet(replicationInfo.consumerGroupReplication().consumerGroupsToReplicate()))
@@ -172,6 +226,19 @@ public class Translator {
    * @return UpdateReplicationInfoRequest the aws service request to modify a resource
    */
   static UpdateReplicationInfoRequest translateToUpdateReplicationInfoRequest(
+    final ResourceModel desiredModel,
+    final ResourceModel currentModel,
+    software.amazon.msk.replicator.ReplicationInfo desiredReplicationInfo) {
+    final ReplicatorEvents.Span conversion =
+      ReplicatorEvents.beginConversion("translateToUpdateReplicationInfoRequest", desiredModel.getReplicatorArn());
+    try {
+      return buildUpdateReplicationInfoRequest(desiredModel, currentModel, desiredReplicationInfo);
+    } finally {
+      conversion.commit();
+    }
+  }
+
+  private static UpdateReplicationInfoRequest buildUpdateReplicationInfoRequest(
     final ResourceModel desiredModel,
     final ResourceModel currentModel,
     software.amazon.msk.replicator.ReplicationInfo desiredReplicationInfo) {
@@ -202,22 +269,58 @@ public class Translator {
    * @return awsRequest the aws service request to list resources within aws account
    */
   static ListReplicatorsRequest translateToListRequest(final String nextToken) {
+    return translateToListRequest(nextToken, null, ReplicatorFilter.NONE);
+  }
+
+  /**
+   * Request to list resources
+   * @param nextToken token passed to the aws service list resources request
+   * @param maxResults page size passed to the aws service list resources request, service default when null
+   * @param filter replicator filter, only the name prefix is sent to the aws service
+   * @return awsRequest the aws service request to list resources within aws account
+   */
+  static ListReplicatorsRequest translateToListRequest(final String nextToken, final Integer maxResults,
+      final ReplicatorFilter filter) {
     return ListReplicatorsRequest.builder()
       .nextToken(nextToken)
+      .maxResults(maxResults)
+      .replicatorNameFilter(filter.getNamePrefix())
       .build();
   }
 
   /**
-   * Translates resource objects from sdk into a resource model (primary identifier only)
+   * Translates resource objects from sdk into resource models
    *
    * @param listReplicatorsResponse the aws service describe resource response
    * @return list of resource models
    */
   static List<ResourceModel> translateFromListResponse(final ListReplicatorsResponse listReplicatorsResponse) {
-    final List<ReplicatorSummary> replicatorsList = listReplicatorsResponse.replicators();
-    return streamOfOrEmpty(replicatorsList)
-      .map(replicator -> ResourceModel.builder().replicatorArn(replicator.replicatorArn()).build())
-      .collect(Collectors.toList());
+    final ReplicatorEvents.Span conversion =
+      ReplicatorEvents.beginConversion("translateFromListResponse", null);
+    try {
+      final List<ReplicatorSummary> replicatorsList = listReplicatorsResponse.replicators();
+      return streamOfOrEmpty(replicatorsList)
+        .map(Translator::translateFromReplicatorSummary)
+        .collect(Collectors.toList());
+    } finally {
+      conversion.commit();
+    }
+  }
+
+  /**
+   * Translates a replicator summary into a resource model. Summaries only name the clusters and flows, without the vpc
+   * configuration and replication settings the schema requires of them, so the model carries the primary identifier
+   * and the top level properties the summary holds completely; a describe is needed to read the rest.
+   *
+   * @param replicatorSummary the replicator summary returned by the aws service list resources response
+   * @return model resource model
+   */
+  static ResourceModel translateFromReplicatorSummary(final ReplicatorSummary replicatorSummary) {
+    return ResourceModel.builder()
+      .replicatorArn(replicatorSummary.replicatorArn())
+      .replicatorName(replicatorSummary.replicatorName())
+      .currentVersion(replicatorSummary.currentVersion())
+      .build();
   }
 
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
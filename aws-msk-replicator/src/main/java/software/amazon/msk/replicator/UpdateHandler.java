@@ -1,6 +1,10 @@
 package software.amazon.msk.replicator;
 
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.BadRequestException;
+import software.amazon.awssdk.services.kafka.model.ConflictException;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
 import software.amazon.awssdk.services.kafka.model.ReplicatorState;
 import software.amazon.awssdk.services.kafka.model.UpdateReplicationInfoRequest;
 import software.amazon.awssdk.services.kafka.model.UpdateReplicationInfoResponse;
@@ -13,15 +17,22 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static software.amazon.msk.replicator.HandlerHelper.getUpdatedReplicationInfos;
 import static software.amazon.msk.replicator.OperationType.UPDATE_REPLICATION_INFO;
 
 public class UpdateHandler extends BaseHandlerStd {
+    protected static final int MAX_CURRENT_VERSION_CONFLICT_RETRIES = 3;
+    static final String UPDATE_REPLICATION_INFO_STAGE = "AWS-MSK-Replicator::UpdateReplicationInfo";
+    static final String TAG_RESOURCE_STAGE = "AWS-MSK-Replicator::TagResource";
+    static final String UNTAG_RESOURCE_STAGE = "AWS-MSK-Replicator::UntagResource";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -47,6 +58,15 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel currentModel = readResponse.getResourceModel();
 
+        // callbacks after the update was accepted would plan against the already updated replicator
+        if (callbackContext.getReplicationInfoUpdateAcceptedAt() == null) {
+            StructuredLogger.of(logger)
+                .with(StructuredLogger.REPLICATOR_ARN, currentModel.getReplicatorArn())
+                .with(StructuredLogger.CLIENT_REQUEST_TOKEN, clientRequestToken)
+                .log(String.format("Update plan for replicator %s: %s", currentModel.getReplicatorArn(),
+                    new UpdatePlanner().plan(request, currentModel)));
+        }
+
         ProgressEvent<ResourceModel, CallbackContext> progressEvent = ProgressEvent.progress(desiredModel, callbackContext);
         if (TagHelper.shouldUpdateTags(request)) {
             final Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(request);
@@ -88,6 +108,7 @@ public class UpdateHandler extends BaseHandlerStd {
      * for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
      * @param proxyClient the aws service client to make the call
      * @param model resource model
+     * @param callbackContext callback context
      * @param clientRequestToken idempotent token in the request
      * @return boolean state of stabilized or not
      */
@@ -95,35 +116,33 @@ public class UpdateHandler extends BaseHandlerStd {
         final UpdateReplicationInfoResponse updateReplicationInfoResponse,
         final ProxyClient<KafkaClient> proxyClient,
         final ResourceModel model,
+        final CallbackContext callbackContext,
         final String clientRequestToken) {
 
-        logger.log(String.format("[ClientRequestToken: %s] Stabilizing update operation for replicator %s.",
-            clientRequestToken, model.getReplicatorArn()));
-
         if (model.getReplicatorArn() == null) {
             model.setReplicatorArn(updateReplicationInfoResponse.replicatorArn());
         }
 
         final String replicatorArn = model.getReplicatorArn();
         final ReplicatorState currentReplicatorState =
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
-                proxyClient.client()::describeReplicator).replicatorState();
-
-        logger.log(String.format("[ClientRequestToken: %s] Stabilizing replicator %s. Current status is %s",
-                clientRequestToken, model.getReplicatorArn(), currentReplicatorState));
+            describeReplicator(proxyClient, Translator.translateToReadRequest(model)).replicatorState();
+        final StructuredLogger pollLogger = StructuredLogger.of(logger)
+            .with(StructuredLogger.REPLICATOR_ARN, replicatorArn)
+            .with(StructuredLogger.CLIENT_REQUEST_TOKEN, clientRequestToken);
 
         switch (currentReplicatorState) {
             case RUNNING:
-                logger.log(String.format("Replicator %s is stabilized, current state is %s", replicatorArn,
-                        currentReplicatorState));
+                pollLogger.lastPoll(callbackContext, currentReplicatorState, String.format(
+                    "Replicator %s is stabilized, current state is %s", replicatorArn, currentReplicatorState));
+                recordStabilization(callbackContext);
                 return true;
             case UPDATING:
-                logger.log(String.format("Replicator %s is stabilizing, current state is %s", replicatorArn,
-                        currentReplicatorState));
+                pollLogger.poll(callbackContext, currentReplicatorState, () -> String.format(
+                    "Replicator %s is stabilizing, current state is %s", replicatorArn, currentReplicatorState));
                 return false;
             default:
-                logger.log(String.format("Replicator %s reached unexpected state %s", replicatorArn,
-                        currentReplicatorState));
+                pollLogger.lastPoll(callbackContext, currentReplicatorState, String.format(
+                    "Replicator %s reached unexpected state %s", replicatorArn, currentReplicatorState));
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getReplicatorArn());
         }
     }
@@ -154,15 +173,17 @@ public class UpdateHandler extends BaseHandlerStd {
 
         if (possibleUpdateCount == 1) {
             ReplicationInfo desiredReplicationInfo = desiredUpdatedReplicationInfo.get(0);
-            return proxy
-                .initiate("AWS-MSK-Replicator::UpdateReplicationInfo", proxyClient, desiredModel, callbackContext)
+            return ReplicatorEvents.stage(UPDATE_REPLICATION_INFO_STAGE, desiredModel, () -> proxy
+                .initiate(UPDATE_REPLICATION_INFO_STAGE, proxyClient, desiredModel, callbackContext)
                 .translateToServiceRequest(_resourceModel -> Translator.translateToUpdateReplicationInfoRequest(desiredModel, currentModel, desiredReplicationInfo))
                 .backoffDelay(STABILIZATION_DELAY_UPDATE)
-                .makeServiceCall((updateReplicationInfoRequest, _proxyClient) -> performUpdateReplicationInfoOperation(updateReplicationInfoRequest, _proxyClient, clientRequestToken))
-                .stabilize((updateReplicationInfoRequest, updateReplicationInfoResponse, _proxyClient, _resourceModel, _callbackContext) -> stabilizedOnUpdate(updateReplicationInfoResponse, _proxyClient, desiredModel, clientRequestToken))
+                .makeServiceCall((updateReplicationInfoRequest, _proxyClient) -> performUpdateReplicationInfoOperation(updateReplicationInfoRequest, _proxyClient, desiredModel, callbackContext, clientRequestToken))
+                .stabilize((updateReplicationInfoRequest, updateReplicationInfoResponse, _proxyClient, _resourceModel, _callbackContext) ->
+                    ReplicatorEvents.stabilizationPoll(UPDATE_REPLICATION_INFO_STAGE, desiredModel.getReplicatorArn(), () ->
+                        stabilizedOnUpdate(updateReplicationInfoResponse, _proxyClient, desiredModel, callbackContext, clientRequestToken)))
                 .handleError((updateReplicationInfoRequest, exception, _proxyClient, _resourceModel, _callbackContext) ->
                     handleError(exception, desiredModel, callbackContext, logger, clientRequestToken))
-                .progress();
+                .progress());
         }
 
         return ProgressEvent.defaultSuccessHandler(desiredModel);
@@ -171,21 +192,126 @@ public class UpdateHandler extends BaseHandlerStd {
     /**
      * Handler execute operation to call update replication info api
      *
+     * The current version sent with the request comes from a describe issued before the tag stages, so it may be
+     * stale by the time the update goes out. On a current version conflict the replicator is described again. When
+     * its version moved on, the diff is recomputed and the update reissued against the fresh version only if the
+     * desired change is still pending; when the version sent is still current the conflict is reported as is.
+     *
      * @param updateReplicationInfoRequest the aws service request to update replication info
      * @param proxyClient the aws service client to make the call
+     * @param desiredModel desired resource model
+     * @param callbackContext callback context
      * @param clientRequestToken idempotent token in the request
      * @return UpdateReplicationInfoResponse update replication info response
      */
     private UpdateReplicationInfoResponse performUpdateReplicationInfoOperation(
         final UpdateReplicationInfoRequest updateReplicationInfoRequest,
         final ProxyClient<KafkaClient> proxyClient,
+        final ResourceModel desiredModel,
+        final CallbackContext callbackContext,
+        final String clientRequestToken) {
+
+        PatternSetAnalyzer.validateReplicationPatterns(desiredModel, logger);
+
+        final long startedAt = System.currentTimeMillis();
+        final UpdateReplicationInfoResponse updateReplicationInfoResponse =
+            updateReplicationInfo(updateReplicationInfoRequest, proxyClient, desiredModel, clientRequestToken);
+        final long acceptedAt = System.currentTimeMillis();
+        UpdatePlanner.DurationHistory.SHARED.record(UpdatePlanner.UPDATE_REPLICATION_INFO,
+            Duration.ofMillis(acceptedAt - startedAt));
+        callbackContext.setReplicationInfoUpdateAcceptedAt(acceptedAt);
+        return updateReplicationInfoResponse;
+    }
+
+    /**
+     * Records the time from the update being accepted to the replicator running again, when the update was made
+     * by this handler.
+     */
+    private static void recordStabilization(final CallbackContext callbackContext) {
+        final Long acceptedAt = callbackContext.getReplicationInfoUpdateAcceptedAt();
+        if (acceptedAt != null) {
+            UpdatePlanner.DurationHistory.SHARED.record(UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO,
+                Duration.ofMillis(System.currentTimeMillis() - acceptedAt));
+            callbackContext.setReplicationInfoUpdateAcceptedAt(null);
+        }
+    }
+
+    private UpdateReplicationInfoResponse updateReplicationInfo(
+        final UpdateReplicationInfoRequest updateReplicationInfoRequest,
+        final ProxyClient<KafkaClient> proxyClient,
+        final ResourceModel desiredModel,
         final String clientRequestToken) {
 
-        logger.log(String.format("[ClientRequestToken: %s] Updating replication info for replicator %s", clientRequestToken,
-            updateReplicationInfoRequest.replicatorArn()));
+        final StructuredLogger updateLogger = StructuredLogger.of(logger)
+            .with(StructuredLogger.REPLICATOR_ARN, updateReplicationInfoRequest.replicatorArn())
+            .with(StructuredLogger.CLIENT_REQUEST_TOKEN, clientRequestToken);
+        UpdateReplicationInfoRequest currentRequest = updateReplicationInfoRequest;
+        for (int attempt = 0; ; attempt++) {
+            final String currentVersion = currentRequest.currentVersion();
+            updateLogger.log(String.format("Updating replication info of replicator %s at version %s",
+                updateReplicationInfoRequest.replicatorArn(), currentVersion));
+
+            try {
+                return proxyClient.injectCredentialsAndInvokeV2(
+                    currentRequest, proxyClient.client()::updateReplicationInfo);
+            } catch (final AwsServiceException e) {
+                if (!isCurrentVersionConflict(e) || attempt >= MAX_CURRENT_VERSION_CONFLICT_RETRIES) {
+                    throw e;
+                }
+
+                final DescribeReplicatorResponse latestReplicator =
+                    describeReplicator(proxyClient, Translator.translateToReadRequest(desiredModel));
+                if (latestReplicator.currentVersion() == null || latestReplicator.currentVersion().equals(currentVersion)) {
+                    // the version sent is still current, the conflict has another cause such as the replicator
+                    // being busy, and retrying right away would only hit it again
+                    throw e;
+                }
+
+                updateLogger.log(String.format("Current version %s of replicator %s is stale, " +
+                    "retrying against version %s: %s", currentVersion, updateReplicationInfoRequest.replicatorArn(),
+                    latestReplicator.currentVersion(), e.getMessage()));
+
+                final ResourceModel latestModel = Translator.translateFromReadResponse(latestReplicator);
+                final Optional<ReplicationInfo> pendingReplicationInfo =
+                    getPendingReplicationInfo(desiredModel, latestModel, currentRequest);
+
+                if (!pendingReplicationInfo.isPresent()) {
+                    updateLogger.log(String.format("Replication info of replicator %s already " +
+                        "matches the desired state at version %s", latestReplicator.replicatorArn(),
+                        latestReplicator.currentVersion()));
+                    return UpdateReplicationInfoResponse.builder()
+                        .replicatorArn(latestReplicator.replicatorArn())
+                        .replicatorState(latestReplicator.replicatorState())
+                        .build();
+                }
+
+                currentRequest = Translator.translateToUpdateReplicationInfoRequest(
+                    desiredModel, latestModel, pendingReplicationInfo.get());
+            }
+        }
+    }
 
-        return proxyClient.injectCredentialsAndInvokeV2(
-            updateReplicationInfoRequest, proxyClient.client()::updateReplicationInfo);
+    /**
+     * Finds the replication info of the flow targeted by the request that still differs from the latest read.
+     */
+    private static Optional<ReplicationInfo> getPendingReplicationInfo(
+        final ResourceModel desiredModel,
+        final ResourceModel latestModel,
+        final UpdateReplicationInfoRequest updateReplicationInfoRequest) {
+
+        return getUpdatedReplicationInfos(desiredModel, latestModel).stream()
+            .filter(replicationInfo ->
+                replicationInfo.getSourceKafkaClusterArn().equals(updateReplicationInfoRequest.sourceKafkaClusterArn()) &&
+                replicationInfo.getTargetKafkaClusterArn().equals(updateReplicationInfoRequest.targetKafkaClusterArn()))
+            .findFirst();
+    }
+
+    private static boolean isCurrentVersionConflict(final AwsServiceException exception) {
+        if (exception instanceof ConflictException) {
+            return true;
+        }
+        return exception instanceof BadRequestException &&
+            MSK_API_PARAM_NAME_CURRENT_VERSION.equals(((BadRequestException) exception).invalidParameter());
     }
 
     /**
@@ -210,14 +336,15 @@ public class UpdateHandler extends BaseHandlerStd {
         logger.log(String.format("[UPDATE][IN PROGRESS] Going to add tags for MSK Replicator resource: %s with AccountId: %s",
                 resourceModel.getReplicatorName(), handlerRequest.getAwsAccountId()));
 
-        return proxy.initiate("AWS-MSK-Replicator::TagResource", serviceClient, resourceModel, callbackContext)
+        return ReplicatorEvents.stage(TAG_RESOURCE_STAGE, resourceModel, () -> proxy
+            .initiate(TAG_RESOURCE_STAGE, serviceClient, resourceModel, callbackContext)
             .translateToServiceRequest(model ->
                 Translator.tagResourceRequest(model, addedTags))
             .makeServiceCall((tagResourceRequest, _proxyClient) -> _proxyClient.injectCredentialsAndInvokeV2(
                 tagResourceRequest, _proxyClient.client()::tagResource))
             .handleError((tagResourceRequest, exception, _proxyClient, _resourceModel, _callbackContext) ->
                 handleError(exception, resourceModel,  callbackContext, logger, clientRequestToken))
-            .progress();
+            .progress());
     }
 
     /**
@@ -242,14 +369,15 @@ public class UpdateHandler extends BaseHandlerStd {
         logger.log(String.format("[UPDATE][IN PROGRESS] Going to remove tags for MSK Replicator resource: %s with AccountId: %s",
             resourceModel.getReplicatorName(), handlerRequest.getAwsAccountId()));
 
-        return proxy.initiate("AWS-MSK-Replicator::UntagResource", serviceClient, resourceModel, callbackContext)
+        return ReplicatorEvents.stage(UNTAG_RESOURCE_STAGE, resourceModel, () -> proxy
+            .initiate(UNTAG_RESOURCE_STAGE, serviceClient, resourceModel, callbackContext)
             .translateToServiceRequest(model ->
                 Translator.untagResourceRequest(model, removedTags))
             .makeServiceCall((untagResourceRequest, _proxyClient) -> _proxyClient.injectCredentialsAndInvokeV2(
                 untagResourceRequest, _proxyClient.client()::untagResource))
             .handleError((untagResourceRequest, exception, _proxyClient, _resourceModel, _callbackContext) ->
                 handleError(exception, resourceModel,  callbackContext, logger, clientRequestToken))
-            .progress();
+            .progress());
     }
 
 }
@@ -0,0 +1,191 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Dry run of {@link UpdateHandler}: computes the tag and replication info diffs the handler acts on and returns the
+ * ordered MSK calls it would make, with predicted durations, without calling any API. Predictions come from the
+ * durations recorded in a {@link DurationHistory} when there are any, and from configured defaults otherwise.
+ */
+public class UpdatePlanner {
+    public static final String DESCRIBE_REPLICATOR = "DescribeReplicator";
+    public static final String UNTAG_RESOURCE = "UntagResource";
+    public static final String TAG_RESOURCE = "TagResource";
+    public static final String UPDATE_REPLICATION_INFO = "UpdateReplicationInfo";
+    public static final String STABILIZE_UPDATE_REPLICATION_INFO = "StabilizeUpdateReplicationInfo";
+
+    public static final Map<String, Duration> DEFAULT_DURATIONS;
+
+    static {
+        final Map<String, Duration> defaultDurations = new HashMap<>();
+        defaultDurations.put(DESCRIBE_REPLICATOR, Duration.ofSeconds(1L));
+        defaultDurations.put(UNTAG_RESOURCE, Duration.ofSeconds(1L));
+        defaultDurations.put(TAG_RESOURCE, Duration.ofSeconds(1L));
+        defaultDurations.put(UPDATE_REPLICATION_INFO, Duration.ofSeconds(2L));
+        defaultDurations.put(STABILIZE_UPDATE_REPLICATION_INFO, Duration.ofMinutes(20L));
+        DEFAULT_DURATIONS = Collections.unmodifiableMap(defaultDurations);
+    }
+
+    private final Map<String, Duration> defaultDurations;
+    private final DurationHistory history;
+
+    public UpdatePlanner() {
+        this(DEFAULT_DURATIONS, DurationHistory.SHARED);
+    }
+
+    /**
+     * @param defaultDurations predicted durations by operation when the history has no record of it
+     * @param history recorded durations by operation
+     */
+    public UpdatePlanner(final Map<String, Duration> defaultDurations, final DurationHistory history) {
+        this.defaultDurations = defaultDurations;
+        this.history = history;
+    }
+
+    /**
+     * @param request update request, carrying the desired model and the previous and desired tags
+     * @param currentModel current resource model, as read from the service
+     * @return the calls the update would make
+     */
+    public UpdatePlan plan(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel currentModel) {
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final List<PlannedCall> calls = new ArrayList<>();
+        String rejection = null;
+
+        calls.add(plannedCall(DESCRIBE_REPLICATOR, false, "read current state of " + currentModel.getReplicatorArn()));
+
+        if (TagHelper.shouldUpdateTags(request)) {
+            final Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(request);
+            final Map<String, String> desiredTags = TagHelper.getNewDesiredTags(request);
+            final Set<String> removedTags = TagHelper.generateTagsToRemove(previousTags, desiredTags);
+            final Map<String, String> addedTags = TagHelper.generateTagsToAdd(previousTags, desiredTags);
+
+            if (!removedTags.isEmpty()) {
+                calls.add(plannedCall(UNTAG_RESOURCE, true, "remove tags " + new TreeSet<>(removedTags)));
+            }
+            if (!addedTags.isEmpty()) {
+                calls.add(plannedCall(TAG_RESOURCE, true, "add or change tags " + new TreeSet<>(addedTags.keySet())));
+            }
+        }
+
+        final List<ReplicationInfo> updatedReplicationInfos =
+            HandlerHelper.getUpdatedReplicationInfos(desiredModel, currentModel);
+        if (updatedReplicationInfos.size() > 1) {
+            rejection = BaseHandlerStd.MULTIPLE_UPDATES_UNSUPPORTED;
+        } else if (updatedReplicationInfos.size() == 1) {
+            final ReplicationInfo replicationInfo = updatedReplicationInfos.get(0);
+            calls.add(plannedCall(UPDATE_REPLICATION_INFO, true, String.format("update flow %s -> %s",
+                replicationInfo.getSourceKafkaClusterArn(), replicationInfo.getTargetKafkaClusterArn())));
+            calls.add(plannedCall(STABILIZE_UPDATE_REPLICATION_INFO, false,
+                "poll DescribeReplicator until the replicator is RUNNING"));
+        }
+
+        if (rejection == null) {
+            calls.add(plannedCall(DESCRIBE_REPLICATOR, false, "read updated state of " + currentModel.getReplicatorArn()));
+        }
+        return new UpdatePlan(Collections.unmodifiableList(calls), rejection);
+    }
+
+    private PlannedCall plannedCall(final String operation, final boolean mutating, final String detail) {
+        final Duration recordedDuration = history.predict(operation);
+        final Duration predictedDuration = recordedDuration != null ? recordedDuration :
+            defaultDurations.getOrDefault(operation, Duration.ZERO);
+        return new PlannedCall(operation, mutating, detail, predictedDuration, recordedDuration != null);
+    }
+
+    /**
+     * Ordered calls of an update, or the reason the handler would reject it.
+     */
+    @lombok.Value
+    public static class UpdatePlan {
+        List<PlannedCall> calls;
+        String rejection;
+
+        public boolean isRejected() {
+            return rejection != null;
+        }
+
+        public boolean isMutating() {
+            return !isRejected() && calls.stream().anyMatch(PlannedCall::isMutating);
+        }
+
+        public Duration getPredictedDuration() {
+            return calls.stream().map(PlannedCall::getPredictedDuration).reduce(Duration.ZERO, Duration::plus);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder plan = new StringBuilder();
+            if (isRejected()) {
+                plan.append("rejected: ").append(rejection);
+            } else {
+                plan.append(String.format("%d calls, predicted duration %s", calls.size(), getPredictedDuration()));
+            }
+            for (int index = 0; index < calls.size(); index++) {
+                final PlannedCall call = calls.get(index);
+                plan.append(String.format("%n  %d. %s (%s, %s) %s", index + 1, call.getOperation(),
+                    call.isMutating() ? "mutating" : "read only", call.getPredictedDuration(), call.getDetail()));
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * An MSK call of the plan.
+     */
+    @lombok.Value
+    public static class PlannedCall {
+        String operation;
+        boolean mutating;
+        String detail;
+        Duration predictedDuration;
+        boolean predictedFromHistory;
+    }
+
+    /**
+     * Durations recorded per operation, keeping the most recent ones; the prediction is their median.
+     */
+    public static class DurationHistory {
+        public static final int MAX_RECORDS_PER_OPERATION = 20;
+        public static final DurationHistory SHARED = new DurationHistory();
+
+        private final Map<String, Deque<Duration>> records = new HashMap<>();
+
+        public synchronized void record(final String operation, final Duration duration) {
+            final Deque<Duration> operationRecords = records.computeIfAbsent(operation, ignored -> new ArrayDeque<>());
+            if (operationRecords.size() == MAX_RECORDS_PER_OPERATION) {
+                operationRecords.removeFirst();
+            }
+            operationRecords.addLast(duration);
+        }
+
+        /**
+         * @param operation operation name
+         * @return median of the recorded durations, null when none was recorded
+         */
+        public synchronized Duration predict(final String operation) {
+            final Deque<Duration> operationRecords = records.get(operation);
+            if (operationRecords == null || operationRecords.isEmpty()) {
+                return null;
+            }
+            final List<Duration> sortedRecords = new ArrayList<>(operationRecords);
+            Collections.sort(sortedRecords);
+            return sortedRecords.get(sortedRecords.size() / 2);
+        }
+
+        public synchronized void clear() {
+            records.clear();
+        }
+    }
+}
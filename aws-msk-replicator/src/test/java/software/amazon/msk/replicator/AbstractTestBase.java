@@ -11,6 +11,8 @@ import java.util.function.Function;
 
 import com.google.common.collect.Sets;
 
+import org.junit.jupiter.api.BeforeEach;
+
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -40,6 +42,7 @@ public class AbstractTestBase {
   protected static final String CLIENT_REQUEST_TOKEN = "ClientToken";
   protected static final String REPLICATOR_NAME = "ReplicatorName";
   protected static final String REPLICATOR_ARN = "arn:aws:kafka:us-east-1:083674906042:replicator/ReplicatorName";
+  protected static final String CURRENT_VERSION = "K1X5RO3TUDP5KL";
   protected static final String SERVICE_EXECUTION_ROLE_ARN = "arn:aws:iam::083674906042:role/service-role/ServiceExecutionRole";
   protected static final String SOURCE_KAFKA_CLUSTER_ALIAS = "Source";
   protected static final String DESTINATION_KAFKA_CLUSTER_ALIAS = "Destination";
@@ -248,6 +251,11 @@ public class AbstractTestBase {
       MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
       logger = new LoggerProxy();
   }
+  @BeforeEach
+  public void clearCaches() {
+    UpdatePlanner.DurationHistory.SHARED.clear();
+  }
+
   static ProxyClient<KafkaClient> MOCK_PROXY(
     final AmazonWebServicesClientProxy proxy,
     final KafkaClient kafkaClient) {
@@ -0,0 +1,106 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClientBuilderTest extends AbstractTestBase {
+
+    @Test
+    public void duration_ReadsMillisecondsAndFallsBackToDefault() {
+        final Duration defaultValue = Duration.ofSeconds(3L);
+
+        assertThat(ClientBuilder.duration(Collections.singletonMap(ClientBuilder.SOCKET_TIMEOUT_VARIABLE, "1500"),
+            ClientBuilder.SOCKET_TIMEOUT_VARIABLE, defaultValue)).isEqualTo(Duration.ofMillis(1500L));
+        assertThat(ClientBuilder.duration(Collections.emptyMap(), ClientBuilder.SOCKET_TIMEOUT_VARIABLE, defaultValue))
+            .isEqualTo(defaultValue);
+        assertThat(ClientBuilder.duration(Collections.singletonMap(ClientBuilder.SOCKET_TIMEOUT_VARIABLE, "1.5s"),
+            ClientBuilder.SOCKET_TIMEOUT_VARIABLE, defaultValue)).isEqualTo(defaultValue);
+        assertThat(ClientBuilder.duration(Collections.singletonMap(ClientBuilder.SOCKET_TIMEOUT_VARIABLE, "0"),
+            ClientBuilder.SOCKET_TIMEOUT_VARIABLE, defaultValue)).isEqualTo(defaultValue);
+    }
+
+    @Test
+    public void buildOverrideConfiguration_SetsTimeoutsAndMetricPublisher() {
+        final ClientOverrideConfiguration overrideConfiguration = ClientBuilder.buildOverrideConfiguration(
+            Collections.singletonMap(ClientBuilder.API_CALL_ATTEMPT_TIMEOUT_VARIABLE, "5000"));
+
+        assertThat(overrideConfiguration.apiCallTimeout()).contains(ClientBuilder.DEFAULT_API_CALL_TIMEOUT);
+        assertThat(overrideConfiguration.apiCallAttemptTimeout()).contains(Duration.ofSeconds(5L));
+        assertThat(overrideConfiguration.metricPublishers()).containsExactly(SdkMetricsPublisher.SHARED);
+        assertThat(ClientBuilder.buildOverrideConfiguration(
+            Collections.singletonMap(ClientBuilder.SDK_METRICS_VARIABLE, "false")).metricPublishers()).isEmpty();
+    }
+
+    @Test
+    public void warmUp_KeepsTheConnectionForTheNextRequest() throws IOException {
+        final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            final byte[] body = "{\"message\":\"Missing Authentication Token\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(403, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+        final URI endpoint = URI.create(String.format("http://%s:%d", server.getAddress().getHostString(),
+            server.getAddress().getPort()));
+
+        try (SdkHttpClient httpClient = ClientBuilder.buildHttpClient(Collections.emptyMap())) {
+            assertThat(ClientBuilder.warmUp(httpClient, endpoint, ClientBuilder.WARM_UP_TIMEOUT)).isEqualTo(403);
+            assertThat(ClientBuilder.warmUp(httpClient, endpoint, ClientBuilder.WARM_UP_TIMEOUT)).isEqualTo(403);
+        } finally {
+            server.stop(0);
+        }
+
+        assertThat(clientPorts).hasSize(2);
+        assertThat(clientPorts.get(1)).isEqualTo(clientPorts.get(0));
+    }
+
+    @Test
+    public void warmUp_GivesUpAfterTheTimeout() throws IOException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+        });
+        server.start();
+        final URI endpoint = URI.create(String.format("http://%s:%d", server.getAddress().getHostString(),
+            server.getAddress().getPort()));
+
+        try (SdkHttpClient httpClient = ClientBuilder.buildHttpClient(Collections.emptyMap())) {
+            final long start = System.nanoTime();
+            assertThrows(IOException.class, () -> ClientBuilder.warmUp(httpClient, endpoint, Duration.ofMillis(100L)));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5L));
+        } finally {
+            release.countDown();
+            server.stop(0);
+        }
+    }
+}
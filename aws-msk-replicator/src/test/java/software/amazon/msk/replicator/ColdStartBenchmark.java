@@ -0,0 +1,456 @@
+package software.amazon.msk.replicator;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Cold start and memory benchmark of the handler. Every run starts a fresh JVM that invokes {@link HandlerWrapper}
+ * once with a recorded request payload, the way the Lambda runtime does, against a local stand-in of the MSK
+ * endpoint. The runs sweep the JVM options of each configuration and the five actions; per run the child JVM reports
+ * the time to the first response, the classes loaded, and the peak heap and resident set sizes. Medians are printed
+ * per configuration and action, and all runs are written as CSV, so the memory size and JVM options of the function
+ * can be chosen from data.
+ *
+ * Run it with the benchmark profile, see the README:
+ * mvn -Pbenchmark -DskipTests integration-test
+ */
+public final class ColdStartBenchmark {
+    static final String RESULT_PREFIX = "BENCHMARK_RESULT ";
+    static final List<String> ACTIONS = Collections.unmodifiableList(
+        Arrays.asList("create", "read", "update", "list", "delete"));
+
+    /**
+     * JVM options swept by default: tiered compilation levels, garbage collectors and heap sizes matching Lambda
+     * memory sizes.
+     */
+    static final Map<String, List<String>> DEFAULT_CONFIGURATIONS;
+
+    static {
+        final Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", Collections.emptyList());
+        configurations.put("c1-only", Collections.singletonList("-XX:TieredStopAtLevel=1"));
+        configurations.put("serial-gc", Collections.singletonList("-XX:+UseSerialGC"));
+        configurations.put("serial-gc-c1-only", Arrays.asList("-XX:+UseSerialGC", "-XX:TieredStopAtLevel=1"));
+        configurations.put("parallel-gc", Collections.singletonList("-XX:+UseParallelGC"));
+        configurations.put("heap-128m", Arrays.asList("-Xms128m", "-Xmx128m"));
+        configurations.put("heap-256m", Arrays.asList("-Xms256m", "-Xmx256m"));
+        configurations.put("heap-384m", Arrays.asList("-Xms384m", "-Xmx384m"));
+        DEFAULT_CONFIGURATIONS = Collections.unmodifiableMap(configurations);
+    }
+
+    private ColdStartBenchmark() {
+    }
+
+    /**
+     * Options:
+     * --runs N                   runs per configuration and action, 5 by default
+     * --actions create,read,...  actions to run, all by default
+     * --configuration name=opts  JVM options of a configuration, space separated, repeatable; replaces the defaults
+     * --output file              CSV file of all runs, target/benchmark/cold-start.csv by default
+     */
+    public static void main(final String[] args) throws Exception {
+        int runs = 5;
+        List<String> actions = ACTIONS;
+        final Map<String, List<String>> configurations = new LinkedHashMap<>();
+        Path output = Paths.get("target", "benchmark", "cold-start.csv");
+
+        for (int index = 0; index < args.length; index++) {
+            final String option = args[index];
+            if (index + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value of " + option);
+            }
+            final String value = args[++index];
+            if ("--runs".equals(option)) {
+                runs = Integer.parseInt(value);
+            } else if ("--actions".equals(option)) {
+                actions = Arrays.asList(value.split(","));
+            } else if ("--configuration".equals(option)) {
+                final String[] configuration = value.split("=", 2);
+                configurations.put(configuration[0], configuration.length == 1 || configuration[1].trim().isEmpty()
+                    ? Collections.emptyList() : Arrays.asList(configuration[1].trim().split("\\s+")));
+            } else if ("--output".equals(option)) {
+                output = Paths.get(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        if (configurations.isEmpty()) {
+            configurations.putAll(DEFAULT_CONFIGURATIONS);
+        }
+
+        final List<RunResult> results = new ArrayList<>();
+        try (StandInEndpoint endpoint = StandInEndpoint.start()) {
+            for (final Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+                for (final String action : actions) {
+                    for (int run = 0; run < runs; run++) {
+                        endpoint.reset();
+                        final RunResult result = runOnce(configuration.getKey(), configuration.getValue(), action,
+                            endpoint.getUrl());
+                        System.out.println(result);
+                        results.add(result);
+                    }
+                }
+            }
+        }
+
+        writeCsv(output, results);
+        printSummary(results);
+    }
+
+    private static RunResult runOnce(
+        final String configuration,
+        final List<String> jvmOptions,
+        final String action,
+        final String endpointUrl) throws IOException, InterruptedException {
+
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Invocation.class.getName());
+        command.add(action);
+
+        final ProcessBuilder processBuilder = new ProcessBuilder(command).redirectErrorStream(true);
+        final Map<String, String> environment = processBuilder.environment();
+        environment.put("AWS_REGION", "us-east-1");
+        // the SDK sends the requests of the kafka client to the stand-in
+        environment.put("AWS_ENDPOINT_URL_KAFKA", endpointUrl);
+        environment.remove("AWS_LAMBDA_FUNCTION_NAME");
+
+        final long startNanos = System.nanoTime();
+        final Process process = processBuilder.start();
+        String resultLine = null;
+        long firstResponseNanos = -1L;
+        final List<String> outputLines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    firstResponseNanos = System.nanoTime() - startNanos;
+                    resultLine = line.substring(RESULT_PREFIX.length());
+                } else {
+                    outputLines.add(line);
+                }
+            }
+        }
+        if (!process.waitFor(5L, TimeUnit.MINUTES) || process.exitValue() != 0 || resultLine == null) {
+            process.destroyForcibly();
+            throw new IllegalStateException(String.format("Run of %s with %s failed:%n%s", action, configuration,
+                String.join(System.lineSeparator(), outputLines)));
+        }
+
+        final String[] fields = resultLine.split(",");
+        return new RunResult(configuration, action, fields[0], TimeUnit.NANOSECONDS.toMillis(firstResponseNanos),
+            Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4]));
+    }
+
+    private static void writeCsv(final Path output, final List<RunResult> results) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+            writer.println("configuration,action,status,firstResponseMillis,handlerMillis,classesLoaded,"
+                + "peakHeapBytes,peakRssBytes");
+            for (final RunResult result : results) {
+                writer.println(String.join(",", result.getConfiguration(), result.getAction(), result.getStatus(),
+                    String.valueOf(result.getFirstResponseMillis()), String.valueOf(result.getHandlerMillis()),
+                    String.valueOf(result.getClassesLoaded()), String.valueOf(result.getPeakHeapBytes()),
+                    String.valueOf(result.getPeakRssBytes())));
+            }
+        }
+        System.out.println("Runs written to " + output.toAbsolutePath());
+    }
+
+    private static void printSummary(final List<RunResult> results) {
+        System.out.println(String.format("%-20s %-8s %14s %10s %8s %10s %10s", "configuration", "action",
+            "first response", "handler", "classes", "heap MB", "RSS MB"));
+        final Map<String, List<RunResult>> groups = results.stream().collect(Collectors.groupingBy(
+            result -> result.getConfiguration() + " " + result.getAction(), LinkedHashMap::new, Collectors.toList()));
+        for (final List<RunResult> group : groups.values()) {
+            System.out.println(String.format("%-20s %-8s %12dms %8dms %8d %10d %10d",
+                group.get(0).getConfiguration(), group.get(0).getAction(),
+                median(group, RunResult::getFirstResponseMillis), median(group, RunResult::getHandlerMillis),
+                median(group, RunResult::getClassesLoaded), median(group, RunResult::getPeakHeapBytes) >> 20,
+                median(group, RunResult::getPeakRssBytes) >> 20));
+        }
+    }
+
+    private static long median(final List<RunResult> group, final ToLongFunction<RunResult> metric) {
+        final long[] values = group.stream().mapToLong(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    /**
+     * Measurements of one run.
+     */
+    @lombok.Value
+    static class RunResult {
+        String configuration;
+        String action;
+        String status;
+        long firstResponseMillis;
+        long handlerMillis;
+        long classesLoaded;
+        long peakHeapBytes;
+        long peakRssBytes;
+    }
+
+    /**
+     * Entry point of the child JVM: invokes the wrapper once with the recorded payload of an action, then reports its
+     * measurements on a single line and exits.
+     */
+    public static final class Invocation {
+        private Invocation() {
+        }
+
+        public static void main(final String[] args) throws IOException {
+            final String action = args[0];
+            final ByteArrayOutputStream response = new ByteArrayOutputStream();
+            final long startNanos = System.nanoTime();
+            try (InputStream request = ColdStartBenchmark.class.getResourceAsStream(
+                "/benchmark/requests/" + action + ".json")) {
+                if (request == null) {
+                    throw new IllegalArgumentException("No recorded request for action " + action);
+                }
+                new HandlerWrapper().handleRequest(request, response, new BenchmarkContext());
+            }
+            final long handlerMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            final JsonNode status = new ObjectMapper().readTree(response.toByteArray()).get("status");
+            long peakHeapBytes = 0L;
+            for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                    peakHeapBytes += pool.getPeakUsage().getUsed();
+                }
+            }
+            System.out.println(RESULT_PREFIX + String.join(",", status == null ? "UNKNOWN" : status.asText(),
+                String.valueOf(handlerMillis),
+                String.valueOf(ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount()),
+                String.valueOf(peakHeapBytes), String.valueOf(peakRssBytes())));
+            System.out.flush();
+            // the SDK and log publishers keep non-daemon threads
+            System.exit(0);
+        }
+
+        /**
+         * @return high water mark of the resident set, -1 where /proc is not available
+         */
+        private static long peakRssBytes() throws IOException {
+            final Path status = Paths.get("/proc/self/status");
+            if (!Files.isReadable(status)) {
+                return -1L;
+            }
+            for (final String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024L;
+                }
+            }
+            return -1L;
+        }
+    }
+
+    /**
+     * Lambda context of the child JVM, logging to standard error.
+     */
+    private static final class BenchmarkContext implements Context {
+        private final long deadlineMillis = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(15L);
+
+        @Override
+        public String getAwsRequestId() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getFunctionName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return "$LATEST";
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return "arn:aws:lambda:us-east-1:123456789012:function:benchmark";
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) (deadlineMillis - System.currentTimeMillis());
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return (int) (Runtime.getRuntime().maxMemory() >> 20);
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return new LambdaLogger() {
+                @Override
+                public void log(final String message) {
+                    System.err.println(message);
+                }
+
+                @Override
+                public void log(final byte[] message) {
+                    System.err.println(new String(message, StandardCharsets.UTF_8));
+                }
+            };
+        }
+    }
+
+    /**
+     * Local stand-in of the MSK endpoint, answering the replicator and tagging operations with recorded responses.
+     * A deleted replicator is not found until the next {@link #reset()}, so delete stabilization completes.
+     */
+    static final class StandInEndpoint implements AutoCloseable {
+        private static final String REPLICATORS_PATH = "/replication/v1/replicators";
+        private static final String TAGS_PATH = "/v1/tags/";
+
+        private final HttpServer server;
+        private volatile boolean deleted;
+
+        private StandInEndpoint(final HttpServer server) {
+            this.server = server;
+        }
+
+        static StandInEndpoint start() throws IOException {
+            final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            final StandInEndpoint endpoint = new StandInEndpoint(server);
+            server.createContext("/", endpoint::handle);
+            server.start();
+            return endpoint;
+        }
+
+        String getUrl() {
+            return String.format("http://%s:%d", server.getAddress().getHostString(), server.getAddress().getPort());
+        }
+
+        void reset() {
+            deleted = false;
+        }
+
+        private void handle(final HttpExchange exchange) throws IOException {
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                while (requestBody.read() != -1) {
+                    // the responses do not depend on the request body
+                }
+            }
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getRawPath();
+
+            if (path.startsWith(TAGS_PATH)) {
+                respond(exchange, 204, null, null);
+            } else if (path.equals(REPLICATORS_PATH)) {
+                respond(exchange, 200, null, "POST".equals(method) ? "create-replicator" : "list-replicators");
+            } else if (path.startsWith(REPLICATORS_PATH + "/") && path.endsWith("/replication-info")) {
+                respond(exchange, 200, null, "update-replication-info");
+            } else if (path.startsWith(REPLICATORS_PATH + "/") && deleted) {
+                respond(exchange, 404, "NotFoundException", "not-found");
+            } else if (path.startsWith(REPLICATORS_PATH + "/") && "DELETE".equals(method)) {
+                deleted = true;
+                respond(exchange, 200, null, "delete-replicator");
+            } else if (path.startsWith(REPLICATORS_PATH + "/")) {
+                respond(exchange, 200, null, "describe-replicator");
+            } else {
+                respond(exchange, 404, "NotFoundException", "not-found");
+            }
+        }
+
+        private static void respond(
+            final HttpExchange exchange,
+            final int statusCode,
+            final String errorType,
+            final String responseName) throws IOException {
+
+            if (errorType != null) {
+                exchange.getResponseHeaders().add("x-amzn-ErrorType", errorType);
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (responseName == null) {
+                exchange.sendResponseHeaders(statusCode, -1L);
+                exchange.close();
+                return;
+            }
+            final byte[] body = readResponse(responseName);
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+
+        private static byte[] readResponse(final String responseName) throws IOException {
+            try (InputStream response = ColdStartBenchmark.class.getResourceAsStream(
+                "/benchmark/responses/" + responseName + ".json")) {
+                final ByteArrayOutputStream body = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = response.read(buffer)) != -1) {
+                    body.write(buffer, 0, read);
+                }
+                return body.toByteArray();
+            }
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}
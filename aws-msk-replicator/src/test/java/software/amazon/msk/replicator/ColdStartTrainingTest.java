@@ -0,0 +1,48 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.kafka.model.ConflictException;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.awssdk.services.kafka.model.UpdateReplicationInfoRequest;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ColdStartTrainingTest extends AbstractTestBase {
+
+    @Test
+    public void run_InvokesEveryHandlerSuccessfully() throws IOException {
+        final List<ProgressEvent<ResourceModel, CallbackContext>> events = ColdStartTraining.run(logger);
+
+        assertThat(events).hasSize(5).allMatch(event -> event.getStatus() == OperationStatus.SUCCESS);
+        assertThat(events.get(0).getResourceModel().getReplicatorName())
+            .isEqualTo(ColdStartTraining.TRAINING_REPLICATOR_NAME);
+        assertThat(events.get(2).getResourceModel().getReplicationInfoList().iterator().next()
+            .getTopicReplication().getTopicsToReplicate()).containsExactlyInAnyOrder("orders-.*", "payments");
+        assertThat(events.get(3).getResourceModels()).hasSize(1);
+    }
+
+    @Test
+    public void inMemoryKafkaClient_RejectsConflictsAndUnknownReplicators() {
+        final InMemoryKafkaClient kafkaClient = new InMemoryKafkaClient();
+        kafkaClient.createReplicator(Translator.translateToCreateRequest(buildResourceModel(), TAGS));
+        final String replicatorArn = kafkaClient.listReplicators(Translator.translateToListRequest(null))
+            .replicators().get(0).replicatorArn();
+
+        assertThrows(ConflictException.class, () ->
+            kafkaClient.createReplicator(Translator.translateToCreateRequest(buildResourceModel(), TAGS)));
+        assertThrows(ConflictException.class, () -> kafkaClient.updateReplicationInfo(
+            UpdateReplicationInfoRequest.builder().replicatorArn(replicatorArn).currentVersion("0").build()));
+        assertThrows(NotFoundException.class, () -> kafkaClient.describeReplicator(
+            DescribeReplicatorRequest.builder().replicatorArn(REPLICATOR_ARN).build()));
+        assertThat(kafkaClient.describeReplicator(DescribeReplicatorRequest.builder().replicatorArn(replicatorArn)
+            .build()).tags()).isEqualTo(TAGS);
+    }
+}
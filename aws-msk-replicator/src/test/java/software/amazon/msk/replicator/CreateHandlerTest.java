@@ -1,6 +1,8 @@
 package software.amazon.msk.replicator;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -23,6 +26,8 @@ import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
 import software.amazon.awssdk.services.kafka.model.ForbiddenException;
 import software.amazon.awssdk.services.kafka.model.InternalServerErrorException;
 import software.amazon.awssdk.services.kafka.model.KafkaException;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsRequest;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsResponse;
 import software.amazon.awssdk.services.kafka.model.NotFoundException;
 import software.amazon.awssdk.services.kafka.model.ReplicatorState;
 import software.amazon.awssdk.services.kafka.model.ServiceUnavailableException;
@@ -59,6 +64,15 @@ public class CreateHandlerTest extends AbstractTestBase {
     @Mock
     KafkaClient kafkaClient;
 
+    private static final Map<String, String> SYSTEM_TAGS = new HashMap<String, String>() {
+        private static final long serialVersionUID = 1L;
+        {
+            put(CreateHandler.STACK_ID_SYSTEM_TAG,
+                "arn:aws:cloudformation:us-east-1:111122223333:stack/replicator-stack/4d6b0e10-6f1a-11ee-8c99-0242ac120002");
+            put(CreateHandler.LOGICAL_ID_SYSTEM_TAG, "Replicator");
+        }
+    };
+
     private CreateHandler createHandler;
 
     private static Stream<Arguments> requestKafkaErrorToCfnError() {
@@ -301,4 +315,143 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).describeReplicator(any(DescribeReplicatorRequest.class));
         verify(kafkaClient, atLeastOnce()).serviceName();
     }
+
+    @Test
+    public void handleRequest_Success_GeneratesReplicatorNameWhenAbsent() {
+        // Given
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(buildResourceModel().toBuilder()
+                .replicatorArn(null)
+                .replicatorName(null)
+                .build())
+            .stackId(SYSTEM_TAGS.get(CreateHandler.STACK_ID_SYSTEM_TAG))
+            .logicalResourceIdentifier("Replicator")
+            .clientRequestToken(CLIENT_REQUEST_TOKEN)
+            .build();
+        final String generatedName = HandlerHelper.generateReplicatorName(request);
+        when(proxyClient.client().createReplicator(any(CreateReplicatorRequest.class)))
+            .thenReturn(CreateReplicatorResponse.builder()
+                .replicatorState(ReplicatorState.CREATING)
+                .replicatorArn(REPLICATOR_ARN)
+                .replicatorName(generatedName)
+                .build());
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(getReplicator(ReplicatorState.RUNNING).toBuilder().replicatorName(generatedName).build());
+
+        // When
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getReplicatorName()).isEqualTo(generatedName);
+        assertThat(response.getResourceModel().getReplicatorArn()).isEqualTo(REPLICATOR_ARN);
+
+        final ArgumentCaptor<CreateReplicatorRequest> createReplicatorRequest =
+            ArgumentCaptor.forClass(CreateReplicatorRequest.class);
+        verify(proxyClient.client()).createReplicator(createReplicatorRequest.capture());
+        assertThat(createReplicatorRequest.getValue().replicatorName()).isEqualTo(generatedName);
+        verify(proxyClient.client(), times(2)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleCreate_ResourceConflict_AdoptsMatchingReplicator() {
+        // Given
+        when(proxyClient.client().createReplicator(any(CreateReplicatorRequest.class)))
+            .thenThrow(ConflictException.class);
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(ListReplicatorsResponse.builder()
+                .replicators(getReplicatorSummary(ReplicatorState.CREATING))
+                .build());
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(getReplicatorCreatedByStack(ReplicatorState.CREATING))
+            .thenReturn(getReplicatorCreatedByStack(ReplicatorState.RUNNING));
+
+        // When
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel().toBuilder().replicatorArn(null).build())
+                .systemTags(SYSTEM_TAGS)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getReplicatorArn()).isEqualTo(REPLICATOR_ARN);
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client()).createReplicator(any(CreateReplicatorRequest.class));
+        verify(proxyClient.client()).listReplicators(any(ListReplicatorsRequest.class));
+        verify(proxyClient.client(), times(3)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleCreate_ResourceConflict_DoesNotAdoptDifferentReplicator() {
+        // Given
+        when(proxyClient.client().createReplicator(any(CreateReplicatorRequest.class)))
+            .thenThrow(ConflictException.class);
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(ListReplicatorsResponse.builder()
+                .replicators(getReplicatorSummary(ReplicatorState.RUNNING))
+                .build());
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(getReplicatorCreatedByStack(ReplicatorState.RUNNING).toBuilder()
+                .replicationInfoList(UPDATED_REPLICATION_INFO_DESCRIPTION)
+                .build());
+
+        // When & Then
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel())
+                .systemTags(SYSTEM_TAGS)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+        assertThrows(CfnAlreadyExistsException.class,
+            () -> createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).createReplicator(any(CreateReplicatorRequest.class));
+        verify(proxyClient.client()).listReplicators(any(ListReplicatorsRequest.class));
+        verify(proxyClient.client()).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleCreate_ResourceConflict_DoesNotAdoptReplicatorOfAnotherStack() {
+        // Given
+        when(proxyClient.client().createReplicator(any(CreateReplicatorRequest.class)))
+            .thenThrow(ConflictException.class);
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(ListReplicatorsResponse.builder()
+                .replicators(getReplicatorSummary(ReplicatorState.RUNNING))
+                .build());
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(getReplicator(ReplicatorState.RUNNING));
+
+        // When & Then
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel())
+                .systemTags(SYSTEM_TAGS)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+        assertThrows(CfnAlreadyExistsException.class,
+            () -> createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+
+        verify(proxyClient.client()).createReplicator(any(CreateReplicatorRequest.class));
+        verify(proxyClient.client()).listReplicators(any(ListReplicatorsRequest.class));
+        verify(proxyClient.client()).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    private DescribeReplicatorResponse getReplicatorCreatedByStack(final ReplicatorState replicatorState) {
+        final Map<String, String> tags = new HashMap<>(TAGS);
+        tags.putAll(SYSTEM_TAGS);
+        return getReplicator(replicatorState).toBuilder().tags(tags).build();
+    }
 }
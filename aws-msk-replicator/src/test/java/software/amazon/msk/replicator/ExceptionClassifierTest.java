@@ -0,0 +1,63 @@
+package software.amazon.msk.replicator;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kafka.model.BadRequestException;
+import software.amazon.awssdk.services.kafka.model.ConflictException;
+import software.amazon.awssdk.services.kafka.model.ForbiddenException;
+import software.amazon.awssdk.services.kafka.model.InternalServerErrorException;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.awssdk.services.kafka.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.kafka.model.TooManyRequestsException;
+import software.amazon.awssdk.services.kafka.model.UnauthorizedException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class ExceptionClassifierTest {
+
+    private static Stream<Arguments> exceptionToClassification() {
+        return Stream.of(
+            arguments(new IllegalArgumentException("invalid"), HandlerErrorCode.InvalidRequest, false),
+            arguments(BadRequestException.builder().statusCode(400).build(), HandlerErrorCode.InvalidRequest, false),
+            arguments(ForbiddenException.builder().statusCode(403).build(), HandlerErrorCode.InvalidRequest, false),
+            arguments(UnauthorizedException.builder().statusCode(401).build(), HandlerErrorCode.InvalidRequest, false),
+            arguments(NotFoundException.builder().statusCode(404).build(), HandlerErrorCode.NotFound, false),
+            arguments(TooManyRequestsException.builder().statusCode(429).build(), HandlerErrorCode.Throttling, true),
+            arguments(InternalServerErrorException.builder().statusCode(500).build(),
+                HandlerErrorCode.InternalFailure, true),
+            arguments(ServiceUnavailableException.builder().statusCode(503).build(),
+                HandlerErrorCode.ServiceInternalError, true),
+            arguments(AwsServiceException.builder().statusCode(502).build(),
+                HandlerErrorCode.ServiceInternalError, true),
+            arguments(AwsServiceException.builder().statusCode(429).build(), HandlerErrorCode.Throttling, true),
+            arguments(ConflictException.builder().statusCode(409).build(),
+                HandlerErrorCode.GeneralServiceException, false),
+            arguments(AwsServiceException.builder().build(), HandlerErrorCode.GeneralServiceException, false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptionToClassification")
+    public void classify_MapsExceptionClassAndStatusCode(final Exception exception, final HandlerErrorCode errorCode,
+        final boolean retryable) {
+        final ExceptionClassifier.Classification classification = ExceptionClassifier.classify(exception);
+
+        assertThat(classification.getErrorCode()).isEqualTo(errorCode);
+        assertThat(classification.isRetryable()).isEqualTo(retryable);
+        assertThat(classification.getBackoff().isZero()).isEqualTo(!retryable);
+    }
+
+    @Test
+    public void classify_LeavesUnexpectedExceptionsUnclassified() {
+        assertThat(ExceptionClassifier.classify(new IllegalStateException("unexpected"))).isNull();
+        assertThat(ExceptionClassifier.classify(SdkClientException.create("connection reset"))).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class FlightRecorderEventsTest extends AbstractTestBase {
+    private static final String REPLICATOR_ARN = "arn:aws:kafka:us-east-1:123456789012:replicator/test/abc";
+
+    @Test
+    public void stage_RecordsStageAndPollsWithObservedState(@TempDir final Path directory) throws IOException {
+        final ResourceModel model = ResourceModel.builder().replicatorArn(REPLICATOR_ARN).build();
+        final Path dump = directory.resolve("events.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderEvents.HandlerStage.class);
+            recording.enable(FlightRecorderEvents.StabilizationPoll.class);
+            recording.start();
+            FlightRecorderEvents.stage(CreateHandler.CREATE_STAGE, model, () -> {
+                FlightRecorderEvents.stabilizationPoll(CreateHandler.CREATE_STAGE, REPLICATOR_ARN, () -> {
+                    FlightRecorderEvents.observeState("RUNNING");
+                    return true;
+                });
+                return ProgressEvent.defaultSuccessHandler(model);
+            });
+            FlightRecorderEvents.observeState("DELETING");
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        final RecordedEvent stage = only(events, "software.amazon.msk.replicator.HandlerStage");
+        assertThat(stage.getString("stage")).isEqualTo("AWS-MSK-Replicator::Create");
+        assertThat(stage.getString("replicatorArn")).isEqualTo(REPLICATOR_ARN);
+        assertThat(stage.getString("status")).isEqualTo(OperationStatus.SUCCESS.toString());
+        final RecordedEvent poll = only(events, "software.amazon.msk.replicator.StabilizationPoll");
+        assertThat(poll.getString("state")).isEqualTo("RUNNING");
+        assertThat(poll.getBoolean("stabilized")).isTrue();
+    }
+
+    @Test
+    public void recordInvocation_DumpsRecordingOfMatchingInvocation(@TempDir final Path directory) throws IOException {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put(ReplicatorEvents.RECORDING_DIRECTORY_VARIABLE, directory.toString());
+        environment.put(ReplicatorEvents.RECORDING_CLIENT_REQUEST_TOKEN_VARIABLE, "recorded");
+        final ResourceModel model = ResourceModel.builder().replicatorArn(REPLICATOR_ARN).build();
+
+        FlightRecorderEvents.recordInvocation(environment, "ReadHandler", "skipped", mock(Logger.class),
+            () -> ProgressEvent.defaultSuccessHandler(model));
+        final ProgressEvent<ResourceModel, CallbackContext> response = FlightRecorderEvents.recordInvocation(environment,
+            "ReadHandler", "recorded", mock(Logger.class), () -> FlightRecorderEvents.stage("AWS-MSK-Replicator::Read",
+                model, () -> ProgressEvent.defaultSuccessHandler(model)));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(Files.exists(directory.resolve("ReadHandler-skipped.jfr"))).isFalse();
+        final Path dump = directory.resolve("ReadHandler-recorded.jfr");
+        assertThat(Files.exists(dump)).isTrue();
+        assertThat(only(RecordingFile.readAllEvents(dump), "software.amazon.msk.replicator.HandlerStage")
+            .getString("stage")).isEqualTo("AWS-MSK-Replicator::Read");
+    }
+
+    private static RecordedEvent only(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> named = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+        assertThat(named).hasSize(1);
+        return named.get(0);
+    }
+}
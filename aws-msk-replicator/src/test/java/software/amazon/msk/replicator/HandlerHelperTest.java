@@ -0,0 +1,33 @@
+package software.amazon.msk.replicator;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerHelperTest extends AbstractTestBase {
+    private static final String STACK_ID =
+        "arn:aws:cloudformation:us-east-1:111122223333:stack/replicator-stack/4d6b0e10-6f1a-11ee-8c99-0242ac120002";
+    private static final String LOGICAL_RESOURCE_ID = "Replicator";
+
+    @Test
+    public void generateReplicatorName_IsDeterministicPerCreateOperation() {
+        final String generatedName = HandlerHelper.generateReplicatorName(request(CLIENT_REQUEST_TOKEN));
+
+        assertThat(generatedName).matches("^[0-9A-Za-z][0-9A-Za-z-]{0,}$");
+        assertThat(generatedName).hasSizeLessThanOrEqualTo(HandlerHelper.MAX_REPLICATOR_NAME_LENGTH);
+        assertThat(HandlerHelper.generateReplicatorName(request(CLIENT_REQUEST_TOKEN))).isEqualTo(generatedName);
+        assertThat(HandlerHelper.generateReplicatorName(request(CLIENT_REQUEST_TOKEN + "-replacement")))
+            .isNotEqualTo(generatedName);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String clientRequestToken) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .stackId(STACK_ID)
+            .logicalResourceIdentifier(LOGICAL_RESOURCE_ID)
+            .clientRequestToken(clientRequestToken)
+            .build();
+    }
+}
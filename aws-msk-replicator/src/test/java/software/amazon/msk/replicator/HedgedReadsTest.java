@@ -0,0 +1,142 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HedgedReadsTest extends AbstractTestBase {
+
+    @Test
+    public void invoke_CallsOnceWhenDisabled() {
+        final HedgedReads hedgedReads = new HedgedReads(false, 95.0, 100.0);
+        recordFastLatencies(hedgedReads);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertThat(hedgedReads.invoke(HedgedReads.DESCRIBE_REPLICATOR, attempts::incrementAndGet)).isEqualTo(1);
+        assertThrows(NotFoundException.class, () -> hedgedReads.invoke(HedgedReads.DESCRIBE_REPLICATOR, () -> {
+            throw NotFoundException.builder().message("not found").build();
+        }));
+        assertThat(hedgedReads.getHedges()).isZero();
+    }
+
+    @Test
+    public void invoke_UsesHedgeWhenFirstAttemptIsSlow() {
+        final HedgedReads hedgedReads = new HedgedReads(true, 95.0, 100.0);
+        recordFastLatencies(hedgedReads);
+        final CountDownLatch slowAttempt = new CountDownLatch(1);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            final String response = hedgedReads.invoke(HedgedReads.DESCRIBE_REPLICATOR, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    await(slowAttempt);
+                    return "first";
+                }
+                return "hedge";
+            });
+
+            assertThat(response).isEqualTo("hedge");
+            assertThat(hedgedReads.getHedges()).isEqualTo(1L);
+        } finally {
+            slowAttempt.countDown();
+        }
+    }
+
+    @Test
+    public void invoke_UsesHedgeWhenFirstAttemptFails() {
+        final HedgedReads hedgedReads = new HedgedReads(true, 95.0, 100.0);
+        recordFastLatencies(hedgedReads);
+        final CountDownLatch hedgeStarted = new CountDownLatch(1);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final String response = hedgedReads.invoke(HedgedReads.DESCRIBE_REPLICATOR, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(hedgeStarted);
+                throw NotFoundException.builder().message("not found").build();
+            }
+            hedgeStarted.countDown();
+            sleep(50L);
+            return "hedge";
+        });
+
+        assertThat(response).isEqualTo("hedge");
+    }
+
+    @Test
+    public void invoke_DoesNotHedgeWithoutBudget() {
+        final HedgedReads hedgedReads = new HedgedReads(true, 95.0, 0.0);
+        recordFastLatencies(hedgedReads);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final int response = hedgedReads.invoke(HedgedReads.LIST_REPLICATORS, () -> {
+            sleep(50L);
+            return attempts.incrementAndGet();
+        });
+
+        assertThat(response).isEqualTo(1);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(hedgedReads.getHedges()).isZero();
+    }
+
+    @Test
+    public void hedgeDelay_IsPercentileOfRecordedLatencies() {
+        final HedgedReads hedgedReads = new HedgedReads(true, 95.0, 5.0);
+        for (int millis = 1; millis < HedgedReads.MIN_LATENCIES; millis++) {
+            hedgedReads.recordLatency(HedgedReads.DESCRIBE_REPLICATOR, Duration.ofMillis(millis));
+        }
+        assertThat(hedgedReads.hedgeDelay(HedgedReads.DESCRIBE_REPLICATOR)).isNull();
+
+        for (int millis = HedgedReads.MIN_LATENCIES; millis <= 2 * HedgedReads.LATENCY_WINDOW; millis++) {
+            hedgedReads.recordLatency(HedgedReads.DESCRIBE_REPLICATOR, Duration.ofMillis(millis));
+        }
+        assertThat(hedgedReads.hedgeDelay(HedgedReads.DESCRIBE_REPLICATOR)).isEqualTo(Duration.ofMillis(195L));
+        assertThat(hedgedReads.hedgeDelay(HedgedReads.LIST_REPLICATORS)).isNull();
+    }
+
+    @Test
+    public void clear_ForgetsRecordedLatencies() {
+        final HedgedReads hedgedReads = new HedgedReads(true, 95.0, 5.0);
+        recordFastLatencies(hedgedReads);
+
+        hedgedReads.clear();
+
+        assertThat(hedgedReads.hedgeDelay(HedgedReads.DESCRIBE_REPLICATOR)).isNull();
+    }
+
+    @Test
+    public void fromEnvironment_IsDisabledByDefault() {
+        assertThat(HedgedReads.SHARED.invoke(HedgedReads.DESCRIBE_REPLICATOR, () -> "response")).isEqualTo("response");
+        assertThat(HedgedReads.SHARED.getHedges()).isZero();
+    }
+
+    private static void recordFastLatencies(final HedgedReads hedgedReads) {
+        for (int index = 0; index < HedgedReads.MIN_LATENCIES; index++) {
+            hedgedReads.recordLatency(HedgedReads.DESCRIBE_REPLICATOR, Duration.ofMillis(1L));
+            hedgedReads.recordLatency(HedgedReads.LIST_REPLICATORS, Duration.ofMillis(1L));
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
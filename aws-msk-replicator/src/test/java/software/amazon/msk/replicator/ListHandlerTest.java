@@ -95,6 +95,41 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listReplicators(any(ListReplicatorsRequest.class));
     }
 
+    @Test
+    public void handleRequest_PopulatesTopLevelPropertiesFromReplicatorSummaries() {
+        // Given
+        final ListReplicatorsResponse listReplicatorsResponse =
+            ListReplicatorsResponse.builder().replicators(getReplicatorSummary(ReplicatorState.RUNNING).toBuilder()
+                .currentVersion(CURRENT_VERSION)
+                .build()).build();
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(listReplicatorsResponse);
+
+        final ResourceModel model = ResourceModel.builder().build();
+
+        // When
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+
+        final ResourceModel listedModel = response.getResourceModels().get(0);
+        assertThat(listedModel.getReplicatorArn()).isEqualTo(REPLICATOR_ARN);
+        assertThat(listedModel.getReplicatorName()).isEqualTo(REPLICATOR_NAME);
+        assertThat(listedModel.getCurrentVersion()).isEqualTo(CURRENT_VERSION);
+        assertThat(listedModel.getKafkaClusters()).isNull();
+        assertThat(listedModel.getReplicationInfoList()).isNull();
+
+        verify(proxyClient.client(), times(1)).listReplicators(any(ListReplicatorsRequest.class));
+    }
+
     @ParameterizedTest
     @MethodSource("KafkaErrorToCfnError")
     public void handleRequest_Exception(Class<KafkaException> kafkaException, HandlerErrorCode cfnError) {
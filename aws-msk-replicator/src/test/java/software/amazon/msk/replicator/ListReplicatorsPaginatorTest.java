@@ -0,0 +1,131 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsRequest;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsResponse;
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+import software.amazon.awssdk.services.kafka.model.ReplicatorSummary;
+import software.amazon.awssdk.services.kafka.model.ServiceUnavailableException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ListReplicatorsPaginatorTest extends AbstractTestBase {
+    private static final String SECOND_REPLICATOR_ARN = "arn:aws:kafka:us-east-1:083674906042:replicator/SecondReplicator";
+    private static final String NEXT_TOKEN = "NextToken";
+    private static final Integer MAX_RESULTS = 25;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    KafkaClient kafkaClient;
+
+    @Mock
+    private ProxyClient<KafkaClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        kafkaClient = mock(KafkaClient.class);
+        proxyClient = MOCK_PROXY(proxy, kafkaClient);
+    }
+
+    @Test
+    public void models_StreamsAllPages() {
+        final ListReplicatorsResponse firstPage = ListReplicatorsResponse.builder()
+            .replicators(getReplicatorSummary(ReplicatorState.RUNNING))
+            .nextToken(NEXT_TOKEN)
+            .build();
+        final ListReplicatorsResponse secondPage = ListReplicatorsResponse.builder()
+            .replicators(getReplicatorSummary(ReplicatorState.RUNNING).toBuilder()
+                .replicatorArn(SECOND_REPLICATOR_ARN)
+                .build())
+            .build();
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(firstPage, secondPage);
+
+        final List<String> replicatorArns;
+        try (Stream<ResourceModel> models = new ListReplicatorsPaginator(proxyClient, MAX_RESULTS).models()) {
+            replicatorArns = models.map(ResourceModel::getReplicatorArn).collect(Collectors.toList());
+        }
+
+        assertThat(replicatorArns).containsExactly(REPLICATOR_ARN, SECOND_REPLICATOR_ARN);
+
+        final ArgumentCaptor<ListReplicatorsRequest> requestCaptor = ArgumentCaptor.forClass(ListReplicatorsRequest.class);
+        verify(proxyClient.client(), times(2)).listReplicators(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(requestCaptor.getAllValues().get(1).nextToken()).isEqualTo(NEXT_TOKEN);
+        assertThat(requestCaptor.getAllValues()).allMatch(request -> MAX_RESULTS.equals(request.maxResults()));
+    }
+
+    @Test
+    public void summaries_AppliesNamePrefixAndStateFilter() {
+        final ListReplicatorsResponse listReplicatorsResponse = ListReplicatorsResponse.builder()
+            .replicators(
+                getReplicatorSummary(ReplicatorState.RUNNING),
+                getReplicatorSummary(ReplicatorState.FAILED).toBuilder()
+                    .replicatorArn(SECOND_REPLICATOR_ARN)
+                    .build())
+            .build();
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(listReplicatorsResponse);
+        final ReplicatorFilter filter = ReplicatorFilter.builder()
+            .namePrefix(REPLICATOR_NAME)
+            .state(ReplicatorState.RUNNING)
+            .build();
+
+        final List<String> replicatorArns;
+        try (ListReplicatorsPaginator paginator = new ListReplicatorsPaginator(proxyClient, null, filter)) {
+            replicatorArns = paginator.summaries().map(ReplicatorSummary::replicatorArn).collect(Collectors.toList());
+        }
+
+        assertThat(replicatorArns).containsExactly(REPLICATOR_ARN);
+
+        final ArgumentCaptor<ListReplicatorsRequest> requestCaptor = ArgumentCaptor.forClass(ListReplicatorsRequest.class);
+        verify(proxyClient.client(), times(1)).listReplicators(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().replicatorNameFilter()).isEqualTo(REPLICATOR_NAME);
+    }
+
+    @Test
+    public void hasNext_EmptyAccount() {
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(ListReplicatorsResponse.builder().build());
+
+        try (ListReplicatorsPaginator paginator = new ListReplicatorsPaginator(proxyClient, null)) {
+            assertThat(paginator.hasNext()).isFalse();
+        }
+
+        verify(proxyClient.client(), times(1)).listReplicators(any(ListReplicatorsRequest.class));
+    }
+
+    @Test
+    public void hasNext_PropagatesServiceException() {
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenThrow(ServiceUnavailableException.class);
+
+        try (ListReplicatorsPaginator paginator = new ListReplicatorsPaginator(proxyClient, null)) {
+            assertThrows(ServiceUnavailableException.class, paginator::hasNext);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package software.amazon.msk.replicator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class PatternSetAnalyzerTest extends AbstractTestBase {
+    private static final String LIST_NAME = "TopicsToReplicate";
+
+    private static Stream<Arguments> catastrophicPatterns() {
+        return Stream.of(
+            arguments("(a+)+"),
+            arguments("(a*)*b"),
+            arguments("(\\w+\\w)*"),
+            arguments("(.*-)*"),
+            arguments("(a|ab)*"),
+            arguments("(?:x|x)+y"));
+    }
+
+    private static Stream<Arguments> safePatterns() {
+        return Stream.of(
+            arguments("topic-replicate"),
+            arguments("orders-.*"),
+            arguments("(\\w+\\.)*events"),
+            arguments("(a+b)*"),
+            arguments("(?>a+)+"),
+            arguments("[a+]*x"),
+            arguments("\\Q(a+)+\\E"),
+            arguments("(?i)orders-[0-9]+"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("catastrophicPatterns")
+    public void analyze_RejectsCatastrophicBacktracking(final String pattern) {
+        final PatternSetAnalyzer.Report report = PatternSetAnalyzer.analyze(LIST_NAME, Collections.singleton(pattern));
+
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.getErrors().get(0).getPattern()).isEqualTo(pattern);
+        assertThat(report.getErrors().get(0).getMessage()).contains("backtrack catastrophically");
+        assertThat(report.getEstimatedCost()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("safePatterns")
+    public void analyze_AcceptsPatternsWithoutCatastrophicBacktracking(final String pattern) {
+        final PatternSetAnalyzer.Report report = PatternSetAnalyzer.analyze(LIST_NAME, Collections.singleton(pattern));
+
+        assertThat(report.getFindings()).isEmpty();
+        assertThat(report.getEstimatedCost()).isLessThan(PatternSetAnalyzer.WARN_ESTIMATED_COST);
+    }
+
+    @Test
+    public void analyze_RejectsInvalidPattern() {
+        final PatternSetAnalyzer.Report report = PatternSetAnalyzer.analyze(LIST_NAME, Collections.singleton("(a"));
+
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.getErrors().get(0).getMessage()).contains("not a valid regular expression");
+    }
+
+    @Test
+    public void analyze_WarnsAboutRedundantAndSubsumedPatterns() {
+        final PatternSetAnalyzer.Report report = PatternSetAnalyzer.analyze(LIST_NAME,
+            Arrays.asList("orders-.*", "^orders-.*$", "orders-eu-.*", "orders-eu-1", "payments"));
+
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(messages(report.getWarnings())).containsExactlyInAnyOrder(
+            "TopicsToReplicate: pattern '^orders-.*$' is redundant with 'orders-.*'",
+            "TopicsToReplicate: pattern 'orders-eu-.*' is subsumed by 'orders-.*'",
+            "TopicsToReplicate: pattern 'orders-eu-1' is subsumed by 'orders-.*'",
+            "TopicsToReplicate: pattern 'orders-eu-1' is subsumed by 'orders-eu-.*'");
+    }
+
+    @Test
+    public void analyze_WarnsAboutPatternsSubsumedByMatchAll() {
+        final PatternSetAnalyzer.Report report = PatternSetAnalyzer.analyze(LIST_NAME,
+            Arrays.asList(".*", "orders", "payments-[0-9]+"));
+
+        assertThat(messages(report.getWarnings())).containsExactlyInAnyOrder(
+            "TopicsToReplicate: pattern 'orders' is subsumed by '.*'",
+            "TopicsToReplicate: pattern 'payments-[0-9]+' is subsumed by '.*'");
+    }
+
+    @Test
+    public void analyze_EstimatesCostFromUnboundedQuantifiers() {
+        final long literalCost = PatternSetAnalyzer.analyze(LIST_NAME, Collections.singleton("orders"))
+            .getEstimatedCost();
+        final long prefixCost = PatternSetAnalyzer.analyze(LIST_NAME, Collections.singleton("orders-.*"))
+            .getEstimatedCost();
+        final long twoWildcardCost = PatternSetAnalyzer.analyze(LIST_NAME, Collections.singleton("orders-.*-.*"))
+            .getEstimatedCost();
+
+        assertThat(literalCost).isEqualTo("orders".length());
+        assertThat(prefixCost).isEqualTo("orders-.*".length() + PatternSetAnalyzer.MAX_NAME_LENGTH);
+        assertThat(twoWildcardCost).isEqualTo("orders-.*-.*".length() +
+            (long) PatternSetAnalyzer.MAX_NAME_LENGTH * PatternSetAnalyzer.MAX_NAME_LENGTH);
+    }
+
+    @Test
+    public void analyze_OnlyWarnsAboutExpensivePatternSets() {
+        final List<String> quadraticPatterns = Stream.iterate(0, i -> i + 1).limit(20)
+            .map(i -> String.format("team-%d-.*-.*", i))
+            .collect(Collectors.toList());
+        final PatternSetAnalyzer.Report expensiveReport = PatternSetAnalyzer.analyze(LIST_NAME, quadraticPatterns);
+
+        assertThat(expensiveReport.getErrors()).isEmpty();
+        assertThat(messages(expensiveReport.getWarnings())).anyMatch(message -> message.contains("is high"));
+
+        final PatternSetAnalyzer.Report sequentialWildcardsReport = PatternSetAnalyzer.analyze(LIST_NAME,
+            Collections.singleton("a.*b.*c.*d.*"));
+
+        assertThat(sequentialWildcardsReport.getErrors()).isEmpty();
+        assertThat(messages(sequentialWildcardsReport.getWarnings())).anyMatch(message -> message.contains("is high"));
+    }
+
+    @Test
+    public void analyze_IgnoresUnsetList() {
+        final PatternSetAnalyzer.Report report = PatternSetAnalyzer.analyze(LIST_NAME, null);
+
+        assertThat(report.getFindings()).isEmpty();
+        assertThat(report.getEstimatedCost()).isZero();
+    }
+
+    @Test
+    public void validateReplicationPatterns_ThrowsForErrors() {
+        final ResourceModel model = buildResourceModel().toBuilder()
+            .replicationInfoList(Collections.singleton(REPLICATION_INFO_MODEL.toBuilder()
+                .topicReplication(TOPIC_REPLICATION_MODEL.toBuilder()
+                    .topicsToReplicate(Collections.singleton("(a+)+"))
+                    .build())
+                .build()))
+            .build();
+
+        PatternSetAnalyzer.validateReplicationPatterns(buildResourceModel(), logger);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> PatternSetAnalyzer.validateReplicationPatterns(model, logger));
+        assertThat(exception.getMessage()).contains("TopicReplication.TopicsToReplicate: pattern '(a+)+'");
+    }
+
+    private static List<String> messages(final List<PatternSetAnalyzer.Finding> findings) {
+        return findings.stream().map(PatternSetAnalyzer.Finding::getMessage).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,99 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.Sets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicationSimulatorTest extends AbstractTestBase {
+
+    @Test
+    public void simulate_AppliesIncludesAndExcludes() {
+        final ReplicationSimulator.MatchDiff diff = ReplicationSimulator.simulate(
+            Arrays.asList("orders-.*", "^payments$", "audit-[0-9]+"),
+            Collections.singleton("orders-internal.*"),
+            Collections.singleton("orders-.*"),
+            null,
+            Arrays.asList("orders-eu", "orders-internal-eu", "payments", "payments-eu", "audit-42", "audit-x"));
+
+        assertThat(diff.getMatched()).containsExactly("audit-42", "orders-eu", "payments");
+        assertThat(diff.getAdded()).containsExactly("audit-42", "payments");
+        assertThat(diff.getRemoved()).containsExactly("orders-internal-eu");
+        assertThat(diff.isChanged()).isTrue();
+    }
+
+    @Test
+    public void nameMatcher_AgreesWithPatternMatches() {
+        final List<String> patterns = Arrays.asList("orders", "orders-.*", "(a|b)\\1", "pay(ments)?", ".*-dlq",
+            "^events\\.v[0-9]$");
+        final ReplicationSimulator.NameMatcher matcher = ReplicationSimulator.NameMatcher.of(patterns);
+        final List<String> names = Arrays.asList("orders", "orders-", "orders-eu", "order", "aa", "ab", "pay",
+            "payments", "paym", "x-dlq", "dlq", "events.v1", "eventsxv1", "events.v10", "");
+
+        names.forEach(name -> assertThat(matcher.matches(name))
+            .as(name)
+            .isEqualTo(patterns.stream().anyMatch(name::matches)));
+        assertThat(ReplicationSimulator.NameMatcher.of(null).matches("orders")).isFalse();
+    }
+
+    @Test
+    public void simulate_EvaluatesLargeCorpora() {
+        final List<String> names = IntStream.range(0, 200_000)
+            .mapToObj(index -> (index % 2 == 0 ? "orders-" : "payments-") + index)
+            .collect(Collectors.toList());
+
+        final ReplicationSimulator.MatchDiff diff = ReplicationSimulator.simulate(
+            Arrays.asList("orders-.*", "payments-1[0-9]*"), null, Collections.singleton("orders-.*"), null, names);
+
+        assertThat(diff.getMatched()).hasSize(100_000 + 55_556);
+        assertThat(diff.getAdded()).hasSize(55_556).allMatch(name -> name.startsWith("payments-1"));
+        assertThat(diff.getRemoved()).isEmpty();
+    }
+
+    @Test
+    public void simulateUpdate_CoversChangedFlowsOnly() {
+        final ResourceModel currentModel = buildResourceModel();
+        final ResourceModel desiredModel = buildResourceModel().toBuilder()
+            .replicationInfoList(Sets.newHashSet(REPLICATION_INFO_MODEL.toBuilder()
+                .topicReplication(TOPIC_REPLICATION_MODEL.toBuilder()
+                    .topicsToReplicate(Sets.newHashSet(TOPIC_TO_REPLICATE, "orders-.*"))
+                    .build())
+                .build()))
+            .build();
+        final List<String> topicNames = Arrays.asList(TOPIC_TO_REPLICATE, TOPIC_TO_EXCLUDE, "orders-eu");
+        final List<String> consumerGroupNames = Arrays.asList(CONSUMER_GROUP_TO_REPLICATE, CONSUMER_GROUP_TO_EXCLUDE);
+
+        final List<ReplicationSimulator.FlowSimulation> simulations =
+            ReplicationSimulator.simulateUpdate(desiredModel, currentModel, topicNames, consumerGroupNames);
+
+        assertThat(simulations).hasSize(1);
+        assertThat(simulations.get(0).getSourceKafkaClusterArn()).isEqualTo(SOURCE_MSK_CLUSTER_ARN);
+        assertThat(simulations.get(0).getTopics().getMatched()).containsExactly("orders-eu", TOPIC_TO_REPLICATE);
+        assertThat(simulations.get(0).getTopics().getAdded()).containsExactly("orders-eu");
+        assertThat(simulations.get(0).getConsumerGroups().getMatched()).containsExactly(CONSUMER_GROUP_TO_REPLICATE);
+        assertThat(simulations.get(0).getConsumerGroups().isChanged()).isFalse();
+        assertThat(ReplicationSimulator.simulateUpdate(currentModel, currentModel, topicNames, consumerGroupNames))
+            .isEmpty();
+    }
+
+    @Test
+    public void readNames_SkipsBlankAndCommentLines(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("topics.txt");
+        Files.write(file, Arrays.asList("# source cluster topics", "orders-eu", "", "  payments  ", "orders-eu"),
+            StandardCharsets.UTF_8);
+
+        assertThat(ReplicationSimulator.readNames(file)).containsExactly("orders-eu", "payments");
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicatorDriftScannerTest extends AbstractTestBase {
+    private static final String DRIFTED_REPLICATOR_ARN = "arn:aws:kafka:us-east-1:083674906042:replicator/DriftedReplicator";
+    private static final String DELETED_REPLICATOR_ARN = "arn:aws:kafka:us-east-1:083674906042:replicator/DeletedReplicator";
+    private static final String REPLICATION_FLOW =
+        String.format("ReplicationInfoList[%s->%s]", SOURCE_MSK_CLUSTER_ARN, DESTINATION_MSK_CLUSTER_ARN);
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    KafkaClient kafkaClient;
+
+    @Mock
+    private ProxyClient<KafkaClient> proxyClient;
+
+    private ReplicatorDriftScanner scanner;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        kafkaClient = mock(KafkaClient.class);
+        proxyClient = MOCK_PROXY(proxy, kafkaClient);
+        scanner = new ReplicatorDriftScanner(new ReplicatorInventory(proxyClient, null, 4, 100.0), true);
+    }
+
+    @Test
+    public void scan_ClassifiesReplicators() {
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenAnswer(invocation -> {
+                final String replicatorArn = invocation.<DescribeReplicatorRequest>getArgument(0).replicatorArn();
+                if (DELETED_REPLICATOR_ARN.equals(replicatorArn)) {
+                    throw NotFoundException.builder().message("Replicator not found").build();
+                }
+                if (DRIFTED_REPLICATOR_ARN.equals(replicatorArn)) {
+                    return getReplicator(ReplicatorState.RUNNING).toBuilder()
+                        .replicatorArn(replicatorArn)
+                        .replicationInfoList(UPDATED_REPLICATION_INFO_DESCRIPTION)
+                        .build();
+                }
+                return getReplicator(ReplicatorState.RUNNING);
+            });
+
+        final Map<String, ResourceModel> expectedModels = new HashMap<>();
+        expectedModels.put(REPLICATOR_ARN, buildResourceModel());
+        expectedModels.put(DRIFTED_REPLICATOR_ARN, buildResourceModel().toBuilder().replicatorArn(DRIFTED_REPLICATOR_ARN).build());
+        expectedModels.put(DELETED_REPLICATOR_ARN, buildResourceModel().toBuilder().replicatorArn(DELETED_REPLICATOR_ARN).build());
+
+        final ReplicatorDriftScanner.DriftReport driftReport = scanner.scan(expectedModels);
+
+        assertThat(driftReport.getInSync()).containsExactly(REPLICATOR_ARN);
+        assertThat(driftReport.getMissing()).containsExactly(DELETED_REPLICATOR_ARN);
+        assertThat(driftReport.getDrifted()).containsOnlyKeys(DRIFTED_REPLICATOR_ARN);
+        assertThat(driftReport.getDrifted().get(DRIFTED_REPLICATOR_ARN)).containsExactly(
+            REPLICATION_FLOW + ".TopicReplication.CopyAccessControlListsForTopics",
+            REPLICATION_FLOW + ".TopicReplication.CopyTopicConfigurations",
+            REPLICATION_FLOW + ".TopicReplication.DetectAndCopyNewTopics");
+    }
+
+    @Test
+    public void fingerprint_IgnoresSetOrderAndUnsetProperties() {
+        final ResourceModel model = buildResourceModel().toBuilder()
+            .kafkaClusters(new LinkedHashSet<>(Arrays.asList(SOURCE_KAFKA_CLUSTER_MODEL, DESTINATION_KAFKA_CLUSTER_MODEL)))
+            .build();
+        final ResourceModel reordered = buildResourceModel().toBuilder()
+            .kafkaClusters(new LinkedHashSet<>(Arrays.asList(DESTINATION_KAFKA_CLUSTER_MODEL, SOURCE_KAFKA_CLUSTER_MODEL)))
+            .currentVersion(CURRENT_VERSION)
+            .description("Replicator description")
+            .build();
+
+        final ReplicatorFingerprint expected = ReplicatorFingerprint.of(model, true);
+        final ReplicatorFingerprint actual = ReplicatorFingerprint.of(reordered, true);
+
+        assertThat(actual.getHash()).isNotEqualTo(expected.getHash());
+        assertThat(actual.matches(expected)).isTrue();
+        assertThat(actual.restrictTo(expected)).isEqualTo(expected);
+        assertThat(expected.diff(actual)).isEmpty();
+        assertThat(actual.diff(expected)).containsExactly("Description");
+    }
+
+    @Test
+    public void fingerprint_ComparesSetValuedPropertiesInFull() {
+        final ResourceModel model = buildResourceModel();
+        final software.amazon.msk.replicator.ReplicationInfo extraFlow = REPLICATION_INFO_MODEL.toBuilder()
+            .sourceKafkaClusterArn(DESTINATION_MSK_CLUSTER_ARN)
+            .targetKafkaClusterArn(SOURCE_MSK_CLUSTER_ARN)
+            .build();
+        final ResourceModel withExtraFlow = model.toBuilder()
+            .replicationInfoList(Sets.newHashSet(REPLICATION_INFO_MODEL, extraFlow))
+            .build();
+        final ResourceModel withExtraTopicPattern = model.toBuilder()
+            .replicationInfoList(Sets.newHashSet(REPLICATION_INFO_MODEL.toBuilder()
+                .topicReplication(TOPIC_REPLICATION_MODEL.toBuilder()
+                    .topicsToReplicate(Sets.newHashSet(TOPIC_TO_REPLICATE, "audit-.*"))
+                    .build())
+                .build()))
+            .build();
+
+        final ReplicatorFingerprint expected = ReplicatorFingerprint.of(model, true);
+        final ReplicatorFingerprint actualWithExtraFlow = ReplicatorFingerprint.of(withExtraFlow, true);
+        final ReplicatorFingerprint actualWithExtraTopicPattern = ReplicatorFingerprint.of(withExtraTopicPattern, true);
+
+        assertThat(actualWithExtraFlow.matches(expected)).isFalse();
+        assertThat(expected.diff(actualWithExtraFlow)).contains(
+            String.format("ReplicationInfoList[%s->%s]", DESTINATION_MSK_CLUSTER_ARN, SOURCE_MSK_CLUSTER_ARN));
+        assertThat(actualWithExtraTopicPattern.matches(expected)).isFalse();
+        assertThat(expected.diff(actualWithExtraTopicPattern))
+            .containsExactly(REPLICATION_FLOW + ".TopicReplication.TopicsToReplicate");
+    }
+}
@@ -0,0 +1,35 @@
+package software.amazon.msk.replicator;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicatorEventsTest extends AbstractTestBase {
+
+    @Test
+    public void isEnabled_RequiresEventsOrRecordingDirectory() {
+        assertThat(ReplicatorEvents.isEnabled(Collections.emptyMap())).isFalse();
+        assertThat(ReplicatorEvents.isEnabled(Collections.singletonMap(
+            ReplicatorEvents.EVENTS_VARIABLE, "false"))).isFalse();
+        assertThat(ReplicatorEvents.isEnabled(Collections.singletonMap(
+            ReplicatorEvents.RECORDING_DIRECTORY_VARIABLE, ""))).isFalse();
+        assertThat(ReplicatorEvents.isEnabled(Collections.singletonMap(
+            ReplicatorEvents.EVENTS_VARIABLE, "true"))).isTrue();
+        assertThat(ReplicatorEvents.isEnabled(Collections.singletonMap(
+            ReplicatorEvents.RECORDING_DIRECTORY_VARIABLE, "/tmp"))).isTrue();
+    }
+
+    @Test
+    public void stage_RunsStageWithoutRecording() {
+        final ResourceModel model = ResourceModel.builder().build();
+
+        assertThat(ReplicatorEvents.stage(CreateHandler.CREATE_STAGE, model,
+            () -> ProgressEvent.defaultSuccessHandler(model)).getResourceModel()).isSameAs(model);
+        assertThat(ReplicatorEvents.stabilizationPoll(CreateHandler.CREATE_STAGE, null, () -> true)).isTrue();
+        ReplicatorEvents.beginConversion("translateToCreateRequest", null).commit();
+    }
+}
@@ -0,0 +1,127 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsRequest;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsResponse;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+import software.amazon.awssdk.services.kafka.model.ServiceUnavailableException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicatorInventoryTest extends AbstractTestBase {
+    private static final String DELETED_REPLICATOR_ARN = "arn:aws:kafka:us-east-1:083674906042:replicator/DeletedReplicator";
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    KafkaClient kafkaClient;
+
+    @Mock
+    private ProxyClient<KafkaClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        kafkaClient = mock(KafkaClient.class);
+        proxyClient = MOCK_PROXY(proxy, kafkaClient);
+    }
+
+    @Test
+    public void describeAll_TranslatesEveryListedReplicator() {
+        when(proxyClient.client().listReplicators(any(ListReplicatorsRequest.class)))
+            .thenReturn(ListReplicatorsResponse.builder().replicators(
+                getReplicatorSummary(ReplicatorState.RUNNING),
+                getReplicatorSummary(ReplicatorState.RUNNING).toBuilder()
+                    .replicatorArn(DELETED_REPLICATOR_ARN)
+                    .build()).build());
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenAnswer(invocation -> {
+                if (DELETED_REPLICATOR_ARN.equals(invocation.<DescribeReplicatorRequest>getArgument(0).replicatorArn())) {
+                    throw NotFoundException.builder().message("Replicator not found").build();
+                }
+                return getReplicator(ReplicatorState.RUNNING);
+            });
+
+        final List<ResourceModel> models = new ArrayList<>();
+        new ReplicatorInventory(proxyClient, null, 2, 100.0).describeAll(ReplicatorFilter.NONE, models::add);
+
+        assertThat(models).hasSize(1);
+        assertThat(models.get(0).getReplicatorArn()).isEqualTo(REPLICATOR_ARN);
+        assertThat(models.get(0).getReplicationInfoList()).isEqualTo(REPLICATION_INFOS_MODEL);
+
+        verify(proxyClient.client(), times(1)).listReplicators(any(ListReplicatorsRequest.class));
+        verify(proxyClient.client(), times(2)).describeReplicator(any(DescribeReplicatorRequest.class));
+    }
+
+    @Test
+    public void describeEach_ReportsMissingReplicators() {
+        final List<String> replicatorArns = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replicatorArns.add(REPLICATOR_ARN + i);
+        }
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenAnswer(invocation -> {
+                final String replicatorArn = invocation.<DescribeReplicatorRequest>getArgument(0).replicatorArn();
+                if (replicatorArn.endsWith("0")) {
+                    throw NotFoundException.builder().message("Replicator not found").build();
+                }
+                return getReplicator(ReplicatorState.RUNNING).toBuilder().replicatorArn(replicatorArn).build();
+            });
+
+        final Map<String, Optional<ResourceModel>> described = new HashMap<>();
+        new ReplicatorInventory(proxyClient, null, 2, 100.0).describeEach(replicatorArns, described::put);
+
+        assertThat(described.keySet()).containsExactlyInAnyOrderElementsOf(replicatorArns);
+        assertThat(described.get(REPLICATOR_ARN + 0)).isEmpty();
+        assertThat(described.entrySet().stream()
+            .filter(entry -> entry.getValue().isPresent())
+            .map(entry -> entry.getValue().get().getReplicatorArn())
+            .collect(Collectors.toList()))
+            .containsExactlyInAnyOrderElementsOf(replicatorArns.subList(1, 5));
+
+        verify(proxyClient.client(), times(5)).describeReplicator(any(DescribeReplicatorRequest.class));
+    }
+
+    @Test
+    public void describeEach_PropagatesServiceException() {
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenThrow(ServiceUnavailableException.class);
+
+        final ReplicatorInventory inventory = new ReplicatorInventory(proxyClient);
+
+        assertThrows(ServiceUnavailableException.class,
+            () -> inventory.describeEach(Arrays.asList(REPLICATOR_ARN), (replicatorArn, model) -> { }));
+    }
+
+    @Test
+    public void constructor_RejectsNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicatorInventory(proxyClient, null, 0, 1.0));
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.cloudformation.proxy.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SdkMetricsPublisherTest extends AbstractTestBase {
+
+    @Test
+    public void flush_LogsOneRecordPerInvocationAggregatedByApi() throws Exception {
+        final SdkMetricsPublisher publisher = new SdkMetricsPublisher();
+        publisher.publish(apiCall("DescribeReplicator", true, 30L, 25L, 3L));
+        publisher.publish(apiCall("DescribeReplicator", true, 700L, 650L, 400L, "Throttling"));
+        publisher.publish(apiCall("UpdateReplicationInfo", false, 40L, 35L, 1L, "ServerError"));
+        final Logger invocationLogger = mock(Logger.class);
+
+        publisher.flush(invocationLogger);
+
+        final ArgumentCaptor<String> record = ArgumentCaptor.forClass(String.class);
+        verify(invocationLogger).log(record.capture());
+        final JsonNode apis = new ObjectMapper().readTree(record.getValue()).get(SdkMetricsPublisher.RECORD_NAME);
+        final JsonNode describe = apis.get("DescribeReplicator");
+        assertThat(describe.get("calls").asLong()).isEqualTo(2L);
+        assertThat(describe.get("failures").asLong()).isEqualTo(0L);
+        assertThat(describe.get("retries").asLong()).isEqualTo(1L);
+        assertThat(describe.get("throttledAttempts").asLong()).isEqualTo(1L);
+        assertThat(describe.get(SdkMetricsPublisher.API_CALL).get("max").asLong()).isEqualTo(700L);
+        assertThat(describe.get(SdkMetricsPublisher.SERVICE_CALL).get("count").asLong()).isEqualTo(3L);
+        assertThat(describe.get(SdkMetricsPublisher.CONNECTION_ACQUIRE).get("p99").asLong()).isEqualTo(400L);
+        assertThat(apis.get("UpdateReplicationInfo").get("failures").asLong()).isEqualTo(1L);
+
+        final Logger nextInvocationLogger = mock(Logger.class);
+        publisher.flush(nextInvocationLogger);
+        verify(nextInvocationLogger, never()).log(anyString());
+    }
+
+    @Test
+    public void latencyHistogram_ReportsBucketBoundsAsPercentiles() {
+        final SdkMetricsPublisher.LatencyHistogram histogram = new SdkMetricsPublisher.LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(Duration.ofMillis(millis));
+        }
+
+        assertThat(histogram.percentileMillis(50.0)).isEqualTo(50L);
+        assertThat(histogram.percentileMillis(99.0)).isEqualTo(100L);
+        final Map<String, Object> map = histogram.toMap();
+        assertThat(map).containsEntry("count", 100L).containsEntry("max", 100L);
+    }
+
+    /**
+     * Metrics of a call as the SDK collects them; a throttling or server error adds a failed first attempt.
+     */
+    private static MetricCollection apiCall(
+        final String operationName,
+        final boolean successful,
+        final long apiCallMillis,
+        final long serviceCallMillis,
+        final long connectionAcquireMillis,
+        final String... failedAttemptErrorTypes) {
+
+        final MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(apiCallMillis));
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, successful ? failedAttemptErrorTypes.length : 0);
+        for (final String errorType : failedAttemptErrorTypes) {
+            final MetricCollector failedAttempt = apiCall.createChild("ApiCallAttempt");
+            failedAttempt.reportMetric(CoreMetric.ERROR_TYPE, errorType);
+            failedAttempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(serviceCallMillis));
+        }
+        if (successful) {
+            final MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+            attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(serviceCallMillis));
+            attempt.reportMetric(CoreMetric.TIME_TO_FIRST_BYTE, Duration.ofMillis(serviceCallMillis - 1L));
+            attempt.createChild("HttpClient")
+                .reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(connectionAcquireMillis));
+        }
+        return apiCall.collect();
+    }
+}
@@ -0,0 +1,25 @@
+package software.amazon.msk.replicator;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapStartPrimingTest extends AbstractTestBase {
+
+    @Test
+    public void beforeCheckpoint_LeavesNoSyntheticStateBehind() {
+        SnapStartPriming.getInstance().beforeCheckpoint(null);
+
+        assertThat(UpdatePlanner.DurationHistory.SHARED.predict(UpdatePlanner.UPDATE_REPLICATION_INFO)).isNull();
+        assertThat(UpdatePlanner.DurationHistory.SHARED.predict(UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO))
+            .isNull();
+    }
+
+    @Test
+    public void isCracAvailable_InSnapStartFunction() {
+        assertThat(SnapStartPriming.isCracAvailable(Collections.singletonMap(
+            SnapStartPriming.INITIALIZATION_TYPE_VARIABLE, SnapStartPriming.SNAP_START_INITIALIZATION_TYPE))).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StructuredLoggerTest extends AbstractTestBase {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> records = new ArrayList<>();
+    private final AtomicLong nowMillis = new AtomicLong();
+
+    @Test
+    public void log_WritesMessageAndFieldsAsJson() throws Exception {
+        StructuredLogger.of(records::add)
+            .with(StructuredLogger.REPLICATOR_ARN, REPLICATOR_ARN)
+            .with(StructuredLogger.CLIENT_REQUEST_TOKEN, null)
+            .log("Updating replication info");
+
+        assertThat(records).hasSize(1);
+        final JsonNode record = objectMapper.readTree(records.get(0));
+        assertThat(record.get(StructuredLogger.MESSAGE).asText()).isEqualTo("Updating replication info");
+        assertThat(record.get(StructuredLogger.REPLICATOR_ARN).asText()).isEqualTo(REPLICATOR_ARN);
+        assertThat(record.has(StructuredLogger.CLIENT_REQUEST_TOKEN)).isFalse();
+    }
+
+    @Test
+    public void poll_LogsFirstPollStateChangesAndOnePollPerIntervalAcrossInvocations() throws Exception {
+        final CallbackContext callbackContext = new CallbackContext();
+        final List<String> formatted = new ArrayList<>();
+
+        for (int poll = 0; poll < 60; poll++) {
+            // every poll runs in its own invocation, with its own logger
+            pollLogger().poll(callbackContext, ReplicatorState.UPDATING, () -> {
+                formatted.add("UPDATING");
+                return "Replicator is stabilizing";
+            });
+            nowMillis.addAndGet(Duration.ofSeconds(30L).toMillis());
+        }
+        pollLogger().lastPoll(callbackContext, ReplicatorState.RUNNING, "Replicator is stabilized");
+
+        assertThat(records).hasSize(7);
+        assertThat(formatted).hasSize(6);
+        final JsonNode first = objectMapper.readTree(records.get(0));
+        assertThat(first.get(StructuredLogger.POLL).asLong()).isEqualTo(1L);
+        assertThat(first.get(StructuredLogger.STATE).asText()).isEqualTo("UPDATING");
+        assertThat(first.has(StructuredLogger.SUPPRESSED_POLLS)).isFalse();
+        final JsonNode second = objectMapper.readTree(records.get(1));
+        assertThat(second.get(StructuredLogger.POLL).asLong()).isEqualTo(11L);
+        assertThat(second.get(StructuredLogger.SUPPRESSED_POLLS).asLong()).isEqualTo(9L);
+        final JsonNode last = objectMapper.readTree(records.get(6));
+        assertThat(last.get(StructuredLogger.POLL).asLong()).isEqualTo(61L);
+        assertThat(last.get(StructuredLogger.STATE).asText()).isEqualTo("RUNNING");
+        assertThat(last.get(StructuredLogger.SUPPRESSED_POLLS).asLong()).isEqualTo(9L);
+        assertThat(callbackContext.getPolls()).isZero();
+        assertThat(callbackContext.getLoggedPollState()).isNull();
+
+        records.clear();
+        pollLogger().poll(callbackContext, ReplicatorState.UPDATING, () -> "Replicator is stabilizing");
+        assertThat(objectMapper.readTree(records.get(0)).get(StructuredLogger.POLL).asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    public void poll_LogsEveryStateChange() {
+        final CallbackContext callbackContext = new CallbackContext();
+
+        pollLogger().poll(callbackContext, ReplicatorState.CREATING, () -> "creating");
+        pollLogger().poll(callbackContext, ReplicatorState.CREATING, () -> "creating");
+        pollLogger().poll(callbackContext, ReplicatorState.UPDATING, () -> "updating");
+        pollLogger().poll(new CallbackContext(), ReplicatorState.UPDATING, () -> "updating");
+
+        assertThat(records).hasSize(3);
+    }
+
+    @Test
+    public void pollInterval_FallsBackToDefault() {
+        assertThat(StructuredLogger.pollInterval(Collections.singletonMap(
+            StructuredLogger.POLL_INTERVAL_VARIABLE, "0"))).isEqualTo(Duration.ZERO);
+        assertThat(StructuredLogger.pollInterval(Collections.singletonMap(
+            StructuredLogger.POLL_INTERVAL_VARIABLE, "soon"))).isEqualTo(StructuredLogger.DEFAULT_POLL_INTERVAL);
+        assertThat(StructuredLogger.pollInterval(Collections.emptyMap()))
+            .isEqualTo(StructuredLogger.DEFAULT_POLL_INTERVAL);
+    }
+
+    private StructuredLogger pollLogger() {
+        return StructuredLogger.of(records::add, Duration.ofMinutes(5L), nowMillis::get)
+            .with(StructuredLogger.REPLICATOR_ARN, REPLICATOR_ARN);
+    }
+}
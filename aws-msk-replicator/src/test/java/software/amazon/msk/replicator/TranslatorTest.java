@@ -0,0 +1,57 @@
+package software.amazon.msk.replicator;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.kafka.model.CreateReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
+import software.amazon.awssdk.services.kafka.model.ReplicationStartingPosition;
+import software.amazon.awssdk.services.kafka.model.ReplicationStartingPositionType;
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorTest extends AbstractTestBase {
+
+    @Test
+    public void translateToCreateRequest_PassesStartingPosition() {
+        final ResourceModel model = buildResourceModel().toBuilder()
+            .replicationInfoList(Collections.singleton(REPLICATION_INFO_MODEL.toBuilder()
+                .topicReplication(TOPIC_REPLICATION_MODEL.toBuilder()
+                    .startingPosition(software.amazon.msk.replicator.ReplicationStartingPosition.builder()
+                        .type(ReplicationStartingPositionType.LATEST.toString())
+                        .build())
+                    .build())
+                .build()))
+            .build();
+
+        final CreateReplicatorRequest createReplicatorRequest = Translator.translateToCreateRequest(model, TAGS);
+
+        assertThat(createReplicatorRequest.replicationInfoList().get(0).topicReplication().startingPosition().type())
+            .isEqualTo(ReplicationStartingPositionType.LATEST);
+        assertThat(Translator.translateToCreateRequest(buildResourceModel(), TAGS).replicationInfoList().get(0)
+            .topicReplication().startingPosition()).isNull();
+    }
+
+    @Test
+    public void translateFromReadResponse_ReadsStartingPosition() {
+        final DescribeReplicatorResponse describeReplicatorResponse = getReplicator(ReplicatorState.RUNNING).toBuilder()
+            .replicationInfoList(REPLICATION_INFO_DESCRIPTION.toBuilder()
+                .topicReplication(TOPIC_REPLICATION.toBuilder()
+                    .startingPosition(ReplicationStartingPosition.builder()
+                        .type(ReplicationStartingPositionType.EARLIEST)
+                        .build())
+                    .build())
+                .build())
+            .build();
+
+        final ResourceModel model = Translator.translateFromReadResponse(describeReplicatorResponse);
+
+        assertThat(model.getReplicationInfoList()).hasSize(1);
+        assertThat(model.getReplicationInfoList().iterator().next().getTopicReplication().getStartingPosition().getType())
+            .isEqualTo(ReplicationStartingPositionType.EARLIEST.toString());
+        assertThat(Translator.translateFromReadResponse(getReplicator(ReplicatorState.RUNNING)).getReplicationInfoList()
+            .iterator().next().getTopicReplication().getStartingPosition()).isNull();
+    }
+}
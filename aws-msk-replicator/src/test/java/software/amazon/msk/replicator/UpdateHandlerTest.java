@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kafka.KafkaClient;
 import software.amazon.awssdk.services.kafka.model.BadRequestException;
+import software.amazon.awssdk.services.kafka.model.ConflictException;
 import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
 import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
 import software.amazon.awssdk.services.kafka.model.ForbiddenException;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.services.kafka.model.UntagResourceResponse;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -43,9 +45,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -53,6 +57,7 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
+    private static final String NEW_CURRENT_VERSION = "K1X5RO3TUDP5KM";
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -94,6 +99,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void handleRequest_Success_UpdateReplicationInfo() {
 
         final DescribeReplicatorResponse describeReplicatorResponse = getReplicator(ReplicatorState.RUNNING);
+        final DescribeReplicatorResponse describeReplicatorResponseNewVersion = getReplicator(ReplicatorState.RUNNING)
+            .toBuilder()
+            .currentVersion(NEW_CURRENT_VERSION)
+            .build();
         final DescribeReplicatorResponse describeReplicatorResponseAfter = getReplicator(ReplicatorState.RUNNING).toBuilder()
             .replicationInfoList(UPDATED_REPLICATION_INFO_DESCRIPTION)
             .build();
@@ -219,6 +228,32 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(kafkaClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_LogsUpdatePlanOnlyBeforeUpdateIsAccepted() {
+
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(getReplicator(ReplicatorState.RUNNING));
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel())
+                .previousResourceState(buildResourceModel())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+        final Logger planLogger = mock(Logger.class);
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setReplicationInfoUpdateAcceptedAt(System.currentTimeMillis());
+
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, planLogger);
+        verify(planLogger, never()).log(argThat(message -> message.contains("Update plan")));
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, planLogger);
+        verify(planLogger, times(1)).log(argThat(message -> message.contains("Update plan")));
+
+        verify(proxyClient.client(), atLeast(2)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     public void handleRequest_shouldReturnFailure_ForMultipleReplicationInfoUpdate() {
 
@@ -358,6 +393,154 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(kafkaClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_Success_RetriesUpdateOnCurrentVersionConflict() {
+
+        final DescribeReplicatorResponse describeReplicatorResponse = getReplicator(ReplicatorState.RUNNING);
+        final DescribeReplicatorResponse describeReplicatorResponseNewVersion = getReplicator(ReplicatorState.RUNNING)
+            .toBuilder()
+            .currentVersion(NEW_CURRENT_VERSION)
+            .build();
+        final DescribeReplicatorResponse describeReplicatorResponseAfter = getReplicator(ReplicatorState.RUNNING).toBuilder()
+            .replicationInfoList(UPDATED_REPLICATION_INFO_DESCRIPTION)
+            .build();
+
+        final UpdateReplicationInfoResponse updateReplicationInfoResponse = UpdateReplicationInfoResponse.builder()
+            .replicatorArn(REPLICATOR_ARN)
+            .replicatorState(ReplicatorState.UPDATING)
+            .build();
+
+        when(proxyClient.client().updateReplicationInfo(any(UpdateReplicationInfoRequest.class)))
+            .thenThrow(ConflictException.builder().message("Current version does not match").build())
+            .thenReturn(updateReplicationInfoResponse);
+
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(describeReplicatorResponse, describeReplicatorResponseNewVersion, describeReplicatorResponseAfter);
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel().toBuilder()
+                    .replicationInfoList(UPDATED_REPLICATION_INFOS_MODEL).build())
+                .previousResourceState(buildResourceModel())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client(), atLeast(3)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(proxyClient.client(), times(2)).updateReplicationInfo(any(UpdateReplicationInfoRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_Success_SkipsUpdateRetryWhenChangeAlreadyApplied() {
+
+        final DescribeReplicatorResponse describeReplicatorResponse = getReplicator(ReplicatorState.RUNNING);
+        final DescribeReplicatorResponse describeReplicatorResponseAfter = getReplicator(ReplicatorState.RUNNING).toBuilder()
+            .currentVersion(NEW_CURRENT_VERSION)
+            .replicationInfoList(UPDATED_REPLICATION_INFO_DESCRIPTION)
+            .build();
+
+        when(proxyClient.client().updateReplicationInfo(any(UpdateReplicationInfoRequest.class)))
+            .thenThrow(BadRequestException.builder().message("Current version does not match")
+                .invalidParameter("currentVersion").build());
+
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(describeReplicatorResponse, describeReplicatorResponseAfter);
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel().toBuilder()
+                    .replicationInfoList(UPDATED_REPLICATION_INFOS_MODEL).build())
+                .previousResourceState(buildResourceModel())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client(), atLeast(2)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(proxyClient.client(), times(1)).updateReplicationInfo(any(UpdateReplicationInfoRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_shouldReturnFailure_WhenCurrentVersionConflictPersists() {
+
+        final DescribeReplicatorResponse describeReplicatorResponse = getReplicator(ReplicatorState.RUNNING);
+
+        when(proxyClient.client().updateReplicationInfo(any(UpdateReplicationInfoRequest.class)))
+            .thenThrow(ConflictException.builder().message("Current version does not match").build());
+
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(describeReplicatorResponse,
+                describeReplicatorResponse.toBuilder().currentVersion(NEW_CURRENT_VERSION + "1").build(),
+                describeReplicatorResponse.toBuilder().currentVersion(NEW_CURRENT_VERSION + "2").build(),
+                describeReplicatorResponse.toBuilder().currentVersion(NEW_CURRENT_VERSION + "3").build());
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel().toBuilder()
+                    .replicationInfoList(UPDATED_REPLICATION_INFOS_MODEL).build())
+                .previousResourceState(buildResourceModel())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+
+        verify(proxyClient.client(), atLeast(1)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(proxyClient.client(), times(UpdateHandler.MAX_CURRENT_VERSION_CONFLICT_RETRIES + 1))
+            .updateReplicationInfo(any(UpdateReplicationInfoRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_shouldReturnFailure_WithoutRetryingConflictAtCurrentVersion() {
+
+        final DescribeReplicatorResponse describeReplicatorResponse = getReplicator(ReplicatorState.RUNNING);
+
+        when(proxyClient.client().updateReplicationInfo(any(UpdateReplicationInfoRequest.class)))
+            .thenThrow(ConflictException.builder().message("Replicator is being updated").build());
+
+        when(proxyClient.client().describeReplicator(any(DescribeReplicatorRequest.class)))
+            .thenReturn(describeReplicatorResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(buildResourceModel().toBuilder()
+                    .replicationInfoList(UPDATED_REPLICATION_INFOS_MODEL).build())
+                .previousResourceState(buildResourceModel())
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+
+        verify(proxyClient.client(), times(2)).describeReplicator(any(DescribeReplicatorRequest.class));
+        verify(proxyClient.client(), times(1)).updateReplicationInfo(any(UpdateReplicationInfoRequest.class));
+        verify(kafkaClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     public void handleStabilize_shouldReturnFailure_InvalidReplicatorStatus() {
 
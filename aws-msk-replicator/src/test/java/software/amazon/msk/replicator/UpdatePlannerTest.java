@@ -0,0 +1,105 @@
+package software.amazon.msk.replicator;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UpdatePlannerTest extends AbstractTestBase {
+
+    @Test
+    public void plan_ListsTagAndReplicationInfoCallsInHandlerOrder() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(buildResourceModel().toBuilder()
+                .replicationInfoList(UPDATED_REPLICATION_INFOS_MODEL)
+                .tags(TagHelper.convertToSet(UPDATED_TAGS))
+                .build())
+            .previousResourceState(buildResourceModel())
+            .clientRequestToken(CLIENT_REQUEST_TOKEN)
+            .build();
+
+        final UpdatePlanner.UpdatePlan plan = new UpdatePlanner().plan(request, buildResourceModel());
+
+        assertThat(plan.getCalls().stream().map(UpdatePlanner.PlannedCall::getOperation).collect(Collectors.toList()))
+            .containsExactly(
+                UpdatePlanner.DESCRIBE_REPLICATOR,
+                UpdatePlanner.UNTAG_RESOURCE,
+                UpdatePlanner.TAG_RESOURCE,
+                UpdatePlanner.UPDATE_REPLICATION_INFO,
+                UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO,
+                UpdatePlanner.DESCRIBE_REPLICATOR);
+        assertThat(plan.getCalls().get(1).getDetail()).contains("TEST_TAG2");
+        assertThat(plan.getCalls().get(2).getDetail()).contains("TEST_TAG1", "TEST_TAG3");
+        assertThat(plan.isRejected()).isFalse();
+        assertThat(plan.isMutating()).isTrue();
+        assertThat(plan.getPredictedDuration()).isEqualTo(Duration.ofMinutes(20L).plusSeconds(6L));
+        assertThat(plan.toString()).contains("6 calls", "UpdateReplicationInfo (mutating");
+    }
+
+    @Test
+    public void plan_IsReadOnlyWithoutChanges() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(buildResourceModel())
+            .previousResourceState(buildResourceModel())
+            .build();
+
+        final UpdatePlanner.UpdatePlan plan = new UpdatePlanner().plan(request, buildResourceModel());
+
+        assertThat(plan.getCalls()).hasSize(2).noneMatch(UpdatePlanner.PlannedCall::isMutating);
+        assertThat(plan.isMutating()).isFalse();
+    }
+
+    @Test
+    public void plan_ReportsRejectedMultipleUpdates() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(buildResourceModel().toBuilder()
+                .replicationInfoList(MULTIPLE_UPDATED_REPLICATION_INFOS_MODEL)
+                .build())
+            .previousResourceState(buildResourceModel())
+            .build();
+
+        final UpdatePlanner.UpdatePlan plan = new UpdatePlanner().plan(request, buildResourceModel());
+
+        assertThat(plan.isRejected()).isTrue();
+        assertThat(plan.getRejection()).isEqualTo(BaseHandlerStd.MULTIPLE_UPDATES_UNSUPPORTED);
+        assertThat(plan.isMutating()).isFalse();
+    }
+
+    @Test
+    public void plan_PredictsFromRecordedDurations() {
+        final UpdatePlanner.DurationHistory history = new UpdatePlanner.DurationHistory();
+        history.record(UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO, Duration.ofMinutes(40L));
+        history.record(UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO, Duration.ofMinutes(10L));
+        history.record(UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO, Duration.ofMinutes(30L));
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(buildResourceModel().toBuilder()
+                .replicationInfoList(UPDATED_REPLICATION_INFOS_MODEL)
+                .build())
+            .previousResourceState(buildResourceModel())
+            .build();
+
+        final UpdatePlanner.UpdatePlan plan =
+            new UpdatePlanner(UpdatePlanner.DEFAULT_DURATIONS, history).plan(request, buildResourceModel());
+
+        final UpdatePlanner.PlannedCall stabilization = plan.getCalls().get(2);
+        assertThat(stabilization.getOperation()).isEqualTo(UpdatePlanner.STABILIZE_UPDATE_REPLICATION_INFO);
+        assertThat(stabilization.getPredictedDuration()).isEqualTo(Duration.ofMinutes(30L));
+        assertThat(stabilization.isPredictedFromHistory()).isTrue();
+        assertThat(plan.getCalls().get(1).isPredictedFromHistory()).isFalse();
+    }
+
+    @Test
+    public void durationHistory_KeepsMostRecentRecords() {
+        final UpdatePlanner.DurationHistory history = new UpdatePlanner.DurationHistory();
+        for (int minutes = 0; minutes < UpdatePlanner.DurationHistory.MAX_RECORDS_PER_OPERATION + 10; minutes++) {
+            history.record(UpdatePlanner.UPDATE_REPLICATION_INFO, Duration.ofMinutes(minutes));
+        }
+
+        assertThat(history.predict(UpdatePlanner.UPDATE_REPLICATION_INFO)).isEqualTo(Duration.ofMinutes(20L));
+        assertThat(history.predict(UpdatePlanner.TAG_RESOURCE)).isNull();
+    }
+}
@@ -0,0 +1,239 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Offline simulation of which topics and consumer groups a replication configuration copies, for reviewing a change
+ * against a corpus of known names before deploying it.
+ *
+ * Names are evaluated by a {@link NameMatcher} compiled once per pattern list: literal patterns become a hash lookup,
+ * patterns of the form {@code prefix.*} a lookup per distinct prefix length, and all other patterns a single
+ * alternation, so each name is run through one regular expression rather than through every pattern of the list.
+ */
+public final class ReplicationSimulator {
+    private static final String MATCH_ANYTHING = ".*";
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+    private ReplicationSimulator() {
+    }
+
+    /**
+     * Reads a name list file, one name per line; blank lines and lines starting with {@code #} are skipped.
+     * @param file name list file
+     * @return names in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static Set<String> readNames(final Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+    }
+
+    /**
+     * Simulates the flows an update changes, as determined by {@link HandlerHelper#getUpdatedReplicationInfos}.
+     * @param desiredModel desired resource model
+     * @param currentModel current resource model
+     * @param topicNames topic names of the source clusters
+     * @param consumerGroupNames consumer group names of the source clusters
+     * @return one simulation per changed flow
+     */
+    public static List<FlowSimulation> simulateUpdate(
+        final ResourceModel desiredModel,
+        final ResourceModel currentModel,
+        final Collection<String> topicNames,
+        final Collection<String> consumerGroupNames) {
+
+        final List<FlowSimulation> simulations = new ArrayList<>();
+        HandlerHelper.getUpdatedReplicationInfos(desiredModel, currentModel).forEach(desiredReplicationInfo ->
+            currentModel.getReplicationInfoList().stream()
+                .filter(currentReplicationInfo -> isSameFlow(desiredReplicationInfo, currentReplicationInfo))
+                .findFirst()
+                .ifPresent(currentReplicationInfo -> simulations.add(
+                    simulateFlow(desiredReplicationInfo, currentReplicationInfo, topicNames, consumerGroupNames))));
+        return simulations;
+    }
+
+    /**
+     * @param desiredReplicationInfo desired configuration of the flow
+     * @param currentReplicationInfo current configuration of the flow, null for a new flow
+     * @param topicNames topic names of the source cluster
+     * @param consumerGroupNames consumer group names of the source cluster
+     * @return simulation of the flow
+     */
+    public static FlowSimulation simulateFlow(
+        final ReplicationInfo desiredReplicationInfo,
+        final ReplicationInfo currentReplicationInfo,
+        final Collection<String> topicNames,
+        final Collection<String> consumerGroupNames) {
+
+        final TopicReplication desiredTopics = desiredReplicationInfo.getTopicReplication();
+        final ConsumerGroupReplication desiredGroups = desiredReplicationInfo.getConsumerGroupReplication();
+        final TopicReplication currentTopics =
+            currentReplicationInfo == null ? null : currentReplicationInfo.getTopicReplication();
+        final ConsumerGroupReplication currentGroups =
+            currentReplicationInfo == null ? null : currentReplicationInfo.getConsumerGroupReplication();
+
+        return new FlowSimulation(
+            desiredReplicationInfo.getSourceKafkaClusterArn(),
+            desiredReplicationInfo.getTargetKafkaClusterArn(),
+            simulate(
+                desiredTopics == null ? null : desiredTopics.getTopicsToReplicate(),
+                desiredTopics == null ? null : desiredTopics.getTopicsToExclude(),
+                currentTopics == null ? null : currentTopics.getTopicsToReplicate(),
+                currentTopics == null ? null : currentTopics.getTopicsToExclude(),
+                topicNames),
+            simulate(
+                desiredGroups == null ? null : desiredGroups.getConsumerGroupsToReplicate(),
+                desiredGroups == null ? null : desiredGroups.getConsumerGroupsToExclude(),
+                currentGroups == null ? null : currentGroups.getConsumerGroupsToReplicate(),
+                currentGroups == null ? null : currentGroups.getConsumerGroupsToExclude(),
+                consumerGroupNames));
+    }
+
+    /**
+     * A name is replicated when it matches an include pattern and no exclude pattern; unset lists match nothing.
+     * @param desiredIncludes desired include patterns
+     * @param desiredExcludes desired exclude patterns
+     * @param currentIncludes current include patterns
+     * @param currentExcludes current exclude patterns
+     * @param names names to evaluate
+     * @return names replicated by the desired configuration and the difference to the current one
+     */
+    public static MatchDiff simulate(
+        final Collection<String> desiredIncludes,
+        final Collection<String> desiredExcludes,
+        final Collection<String> currentIncludes,
+        final Collection<String> currentExcludes,
+        final Collection<String> names) {
+
+        final NameMatcher desiredIncludeMatcher = NameMatcher.of(desiredIncludes);
+        final NameMatcher desiredExcludeMatcher = NameMatcher.of(desiredExcludes);
+        final NameMatcher currentIncludeMatcher = NameMatcher.of(currentIncludes);
+        final NameMatcher currentExcludeMatcher = NameMatcher.of(currentExcludes);
+
+        final SortedSet<String> matched = new TreeSet<>();
+        final SortedSet<String> added = new TreeSet<>();
+        final SortedSet<String> removed = new TreeSet<>();
+        names.forEach(name -> {
+            final boolean desired = desiredIncludeMatcher.matches(name) && !desiredExcludeMatcher.matches(name);
+            final boolean current = currentIncludeMatcher.matches(name) && !currentExcludeMatcher.matches(name);
+            if (desired) {
+                matched.add(name);
+            }
+            if (desired && !current) {
+                added.add(name);
+            } else if (!desired && current) {
+                removed.add(name);
+            }
+        });
+        return new MatchDiff(Collections.unmodifiableSortedSet(matched), Collections.unmodifiableSortedSet(added),
+            Collections.unmodifiableSortedSet(removed));
+    }
+
+    private static boolean isSameFlow(final ReplicationInfo left, final ReplicationInfo right) {
+        return Objects.equals(left.getSourceKafkaClusterArn(), right.getSourceKafkaClusterArn()) &&
+            Objects.equals(left.getTargetKafkaClusterArn(), right.getTargetKafkaClusterArn());
+    }
+
+    /**
+     * Matcher for a pattern list, a name matches when any pattern matches it entirely.
+     */
+    static final class NameMatcher {
+        private final Set<String> literals = new HashSet<>();
+        private final Set<String> prefixes = new HashSet<>();
+        private final SortedSet<Integer> prefixLengths = new TreeSet<>();
+        private final List<Pattern> patterns = new ArrayList<>();
+
+        static NameMatcher of(final Collection<String> patterns) {
+            final NameMatcher matcher = new NameMatcher();
+            if (patterns == null) {
+                return matcher;
+            }
+
+            final List<String> alternatives = new ArrayList<>();
+            patterns.forEach(pattern -> {
+                final String canonicalPattern = PatternSetAnalyzer.canonicalize(pattern);
+                final String prefix = canonicalPattern.endsWith(MATCH_ANYTHING) ?
+                    canonicalPattern.substring(0, canonicalPattern.length() - MATCH_ANYTHING.length()) : null;
+                if (PatternSetAnalyzer.isLiteral(canonicalPattern)) {
+                    matcher.literals.add(canonicalPattern);
+                } else if (prefix != null && PatternSetAnalyzer.isLiteral(prefix)) {
+                    matcher.prefixes.add(prefix);
+                    matcher.prefixLengths.add(prefix.length());
+                } else if (BACK_REFERENCE.matcher(pattern).find()) {
+                    // group numbers shift inside an alternation, so back references keep a pattern of their own
+                    matcher.patterns.add(Pattern.compile(pattern));
+                } else {
+                    alternatives.add("(?:" + pattern + ")");
+                }
+            });
+            if (!alternatives.isEmpty()) {
+                matcher.patterns.add(Pattern.compile(String.join("|", alternatives)));
+            }
+            return matcher;
+        }
+
+        boolean matches(final String name) {
+            if (literals.contains(name)) {
+                return true;
+            }
+            for (final int prefixLength : prefixLengths) {
+                if (prefixLength > name.length()) {
+                    break;
+                }
+                if (prefixes.contains(name.substring(0, prefixLength))) {
+                    return true;
+                }
+            }
+            for (final Pattern pattern : patterns) {
+                if (pattern.matcher(name).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Names replicated by a desired configuration, and the ones it adds or removes compared to the current one.
+     */
+    @lombok.Value
+    public static class MatchDiff {
+        SortedSet<String> matched;
+        SortedSet<String> added;
+        SortedSet<String> removed;
+
+        public boolean isChanged() {
+            return !added.isEmpty() || !removed.isEmpty();
+        }
+    }
+
+    /**
+     * Simulation of one replication flow.
+     */
+    @lombok.Value
+    public static class FlowSimulation {
+        String sourceKafkaClusterArn;
+        String targetKafkaClusterArn;
+        MatchDiff topics;
+        MatchDiff consumerGroups;
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.msk.replicator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Fleet-wide drift check for replicators. Each replicator is described in parallel through a
+ * {@link ReplicatorInventory} and reduced to a {@link ReplicatorFingerprint}; a replicator whose fingerprint matches
+ * the expected one is in sync, and the property-by-property diff is only computed for the ones that do not.
+ */
+public class ReplicatorDriftScanner {
+    private final ReplicatorInventory inventory;
+    private final boolean includeTags;
+
+    /**
+     * @param inventory inventory used to describe the scanned replicators
+     * @param includeTags whether tag differences count as drift
+     */
+    public ReplicatorDriftScanner(final ReplicatorInventory inventory, final boolean includeTags) {
+        this.inventory = inventory;
+        this.includeTags = includeTags;
+    }
+
+    /**
+     * @param expectedModels expected resource models, typically from templates, keyed by replicator arn
+     * @return drift report of the scanned replicators
+     */
+    public DriftReport scan(final Map<String, ResourceModel> expectedModels) {
+        return scanFingerprints(expectedModels.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey,
+                entry -> ReplicatorFingerprint.of(entry.getValue(), includeTags))));
+    }
+
+    /**
+     * @param expectedFingerprints expected fingerprints keyed by replicator arn, so callers scanning repeatedly can
+     *                             compute them from templates once
+     * @return drift report of the scanned replicators
+     */
+    public DriftReport scanFingerprints(final Map<String, ReplicatorFingerprint> expectedFingerprints) {
+        final DriftReport driftReport = new DriftReport();
+
+        inventory.describeEach(expectedFingerprints.keySet(), (replicatorArn, actualModel) -> {
+            if (!actualModel.isPresent()) {
+                driftReport.missing.add(replicatorArn);
+                return;
+            }
+
+            final ReplicatorFingerprint expected = expectedFingerprints.get(replicatorArn);
+            final ReplicatorFingerprint actual = ReplicatorFingerprint.of(actualModel.get(), includeTags);
+            if (actual.matches(expected)) {
+                driftReport.inSync.add(replicatorArn);
+            } else {
+                driftReport.drifted.put(replicatorArn, expected.diff(actual));
+            }
+        });
+
+        Collections.sort(driftReport.inSync);
+        Collections.sort(driftReport.missing);
+        return driftReport;
+    }
+
+    /**
+     * Outcome of a drift scan.
+     */
+    public static final class DriftReport {
+        private final List<String> inSync = new ArrayList<>();
+        private final List<String> missing = new ArrayList<>();
+        private final Map<String, List<String>> drifted = new TreeMap<>();
+
+        /**
+         * @return arns of replicators matching their expected configuration
+         */
+        public List<String> getInSync() {
+            return Collections.unmodifiableList(inSync);
+        }
+
+        /**
+         * @return arns of replicators that no longer exist
+         */
+        public List<String> getMissing() {
+            return Collections.unmodifiableList(missing);
+        }
+
+        /**
+         * @return drifted property paths keyed by replicator arn
+         */
+        public Map<String, List<String>> getDrifted() {
+            return Collections.unmodifiableMap(drifted);
+        }
+    }
+}
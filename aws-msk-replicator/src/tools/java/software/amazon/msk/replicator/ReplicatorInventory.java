@@ -0,0 +1,163 @@
+package software.amazon.msk.replicator;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Account-wide replicator inventory: pages through ListReplicators and fans DescribeReplicator calls out over a
+ * bounded pool, handing back fully translated resource models as the describes complete.
+ *
+ * At most {@code concurrency} describes are in flight at any time and describes are started no faster than the
+ * configured rate, so a large account is inventoried quickly without tripping DescribeReplicator throttling.
+ * Results are handed to the caller's consumer on the calling thread, in completion order.
+ */
+public class ReplicatorInventory {
+    public static final int DEFAULT_CONCURRENCY = 8;
+    public static final double DEFAULT_DESCRIBES_PER_SECOND = 10.0;
+
+    private static final String DESCRIBE_REPLICATOR_OPERATION = "DescribeReplicator";
+
+    private final ProxyClient<KafkaClient> proxyClient;
+    private final Integer maxResults;
+    private final int concurrency;
+    private final RateLimiter describeRateLimiter;
+
+    public ReplicatorInventory(final ProxyClient<KafkaClient> proxyClient) {
+        this(proxyClient, null, DEFAULT_CONCURRENCY, DEFAULT_DESCRIBES_PER_SECOND);
+    }
+
+    /**
+     * @param proxyClient the aws service client to make the calls
+     * @param maxResults page size requested from ListReplicators, service default when null
+     * @param concurrency maximum number of describes in flight
+     * @param describesPerSecond maximum rate at which describes are started
+     */
+    public ReplicatorInventory(
+        final ProxyClient<KafkaClient> proxyClient,
+        final Integer maxResults,
+        final int concurrency,
+        final double describesPerSecond) {
+
+        if (concurrency < 1) {
+            throw new IllegalArgumentException(String.format("Concurrency must be positive, was %d", concurrency));
+        }
+        this.proxyClient = proxyClient;
+        this.maxResults = maxResults;
+        this.concurrency = concurrency;
+        this.describeRateLimiter = RateLimiter.create(describesPerSecond);
+    }
+
+    /**
+     * Lists every replicator passing the filter and describes each one. Replicators deleted between the list and
+     * the describe are skipped.
+     *
+     * @param filter name prefix and state filter applied to the listed replicators
+     * @param consumer receives each translated resource model
+     */
+    public void describeAll(final ReplicatorFilter filter, final Consumer<ResourceModel> consumer) {
+        try (ListReplicatorsPaginator paginator = new ListReplicatorsPaginator(proxyClient, maxResults, filter)) {
+            describeEach(
+                new Iterator<String>() {
+                    @Override
+                    public boolean hasNext() {
+                        return paginator.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return paginator.next().replicatorArn();
+                    }
+                },
+                (replicatorArn, model) -> model.ifPresent(consumer));
+        }
+    }
+
+    /**
+     * Describes each of the given replicators.
+     *
+     * @param replicatorArns replicators to describe
+     * @param consumer receives each replicator arn with its translated resource model, empty when the replicator
+     *                 does not exist
+     */
+    public void describeEach(final Iterable<String> replicatorArns,
+        final BiConsumer<String, Optional<ResourceModel>> consumer) {
+        describeEach(replicatorArns.iterator(), consumer);
+    }
+
+    private void describeEach(final Iterator<String> replicatorArns,
+        final BiConsumer<String, Optional<ResourceModel>> consumer) {
+
+        final ExecutorService describeExecutor = Executors.newFixedThreadPool(concurrency,
+            HandlerHelper.daemonThreadFactory("msk-replicator-inventory-describe"));
+        final CompletionService<DescribedReplicator> completionService =
+            new ExecutorCompletionService<>(describeExecutor);
+
+        try {
+            int inFlight = 0;
+            while (replicatorArns.hasNext()) {
+                if (inFlight == concurrency) {
+                    emit(completionService, consumer);
+                    inFlight--;
+                }
+                final String replicatorArn = replicatorArns.next();
+                completionService.submit(() -> describe(replicatorArn));
+                inFlight++;
+            }
+            for (; inFlight > 0; inFlight--) {
+                emit(completionService, consumer);
+            }
+        } finally {
+            describeExecutor.shutdownNow();
+        }
+    }
+
+    private DescribedReplicator describe(final String replicatorArn) {
+        describeRateLimiter.acquire();
+        try {
+            final DescribeReplicatorRequest describeReplicatorRequest = DescribeReplicatorRequest.builder()
+                .replicatorArn(replicatorArn)
+                .build();
+            return new DescribedReplicator(replicatorArn, Optional.of(Translator.translateFromReadResponse(
+                proxyClient.injectCredentialsAndInvokeV2(describeReplicatorRequest, proxyClient.client()::describeReplicator))));
+        } catch (final NotFoundException e) {
+            return new DescribedReplicator(replicatorArn, Optional.empty());
+        }
+    }
+
+    private static void emit(final CompletionService<DescribedReplicator> completionService,
+        final BiConsumer<String, Optional<ResourceModel>> consumer) {
+
+        final DescribedReplicator describedReplicator;
+        try {
+            describedReplicator = HandlerHelper.awaitResult(completionService.take(), DESCRIBE_REPLICATOR_OPERATION);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnGeneralServiceException(DESCRIBE_REPLICATOR_OPERATION, e);
+        }
+        consumer.accept(describedReplicator.replicatorArn, describedReplicator.model);
+    }
+
+    private static final class DescribedReplicator {
+        private final String replicatorArn;
+        private final Optional<ResourceModel> model;
+
+        private DescribedReplicator(final String replicatorArn, final Optional<ResourceModel> model) {
+            this.replicatorArn = replicatorArn;
+            this.model = model;
+        }
+    }
+}
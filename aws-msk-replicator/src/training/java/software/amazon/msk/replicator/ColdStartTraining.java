@@ -0,0 +1,192 @@
+package software.amazon.msk.replicator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.Sets;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+/**
+ * Synthetic invocations of all five handlers: one replicator is created, read, updated, listed and deleted against an
+ * {@link InMemoryKafkaClient}, and each result is serialized the way the wrapper returns it, while the resource model
+ * and callback context are read back the way the wrapper reads requests. Running them loads and initializes the
+ * classes of real invocations, the translations, tag and update diffs, pattern analysis and Jackson serializers,
+ * without calling the service.
+ *
+ * As a program, it is the training run of the class data sharing archive built by the cds profile; the JVM records
+ * the classes it loaded when the run exits. The native profile runs it under the native-image tracing agent, which
+ * records the reflection it used. Like the in-memory client, it is only packaged by the cds, snapstart and native
+ * profiles and stays out of the default jar.
+ */
+public final class ColdStartTraining {
+    static final String TRAINING_REPLICATOR_NAME = "cold-start-training";
+
+    private static final String SOURCE_CLUSTER_ARN = "arn:aws:kafka:us-east-1:123456789012:cluster/source/1";
+    private static final String TARGET_CLUSTER_ARN = "arn:aws:kafka:us-east-1:123456789012:cluster/target/1";
+
+    private ColdStartTraining() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        run(new LoggerProxy());
+        new Configuration().resourceSchemaJSONObject();
+        // the service client and its http client are built, but never called
+        ClientBuilder.getClient();
+        ClientBuilder.reset();
+    }
+
+    /**
+     * @param logger logger for the handlers
+     * @return progress events of the create, read, update, list and delete invocations
+     * @throws IOException if a progress event cannot be serialized, or a model or context read back
+     */
+    static List<ProgressEvent<ResourceModel, CallbackContext>> run(final Logger logger)
+        throws IOException {
+
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger,
+            new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofMinutes(15L).toMillis());
+        final ProxyClient<KafkaClient> proxyClient = proxy.newProxy(InMemoryKafkaClient::new);
+        final Serializer serializer = new Serializer();
+        final List<ProgressEvent<ResourceModel, CallbackContext>> events = new ArrayList<>();
+
+        try {
+            final ResourceModel createdModel = invoke("create", new CreateHandler(), proxy, proxyClient, logger,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(syntheticModel())
+                    .clientRequestToken("create")
+                    .build(),
+                serializer, events).getResourceModel();
+
+            final ResourceModel readModel = invoke("read", new ReadHandler(), proxy, proxyClient, logger,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(ResourceModel.builder().replicatorArn(createdModel.getReplicatorArn()).build())
+                    .clientRequestToken("read")
+                    .build(),
+                serializer, events).getResourceModel();
+
+            final Map<String, String> updatedTags = new HashMap<>(TagHelper.convertToMap(readModel.getTags()));
+            updatedTags.put("purpose", "updated");
+            invoke("update", new UpdateHandler(), proxy, proxyClient, logger,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(readModel.toBuilder()
+                        .replicationInfoList(Collections.singleton(syntheticReplicationInfo("orders-.*", "payments")))
+                        .tags(TagHelper.convertToSet(updatedTags))
+                        .build())
+                    .previousResourceState(readModel)
+                    .clientRequestToken("update")
+                    .build(),
+                serializer, events);
+
+            invoke("list", new ListHandler(), proxy, proxyClient, logger,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(ResourceModel.builder().build())
+                    .clientRequestToken("list")
+                    .build(),
+                serializer, events);
+
+            invoke("delete", new DeleteHandler(), proxy, proxyClient, logger,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(ResourceModel.builder().replicatorArn(createdModel.getReplicatorArn()).build())
+                    .clientRequestToken("delete")
+                    .build(),
+                serializer, events);
+        } finally {
+            // nothing of the synthetic replicator may leak into real invocations
+            UpdatePlanner.DurationHistory.SHARED.clear();
+            HedgedReads.SHARED.clear();
+        }
+        return events;
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> invoke(
+        final String operation,
+        final BaseHandlerStd handler,
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<KafkaClient> proxyClient,
+        final Logger logger,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final Serializer serializer,
+        final List<ProgressEvent<ResourceModel, CallbackContext>> events) throws IOException {
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> event =
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("Synthetic %s ended with %s: %s %s", operation,
+                event.getStatus(), event.getErrorCode(), event.getMessage()));
+        }
+        serializer.serialize(event);
+        // the wrapper reads both back from the request of the next invocation
+        serializer.deserialize(serializer.serialize(request.getDesiredResourceState()),
+            new TypeReference<ResourceModel>() {
+            });
+        serializer.deserialize(serializer.serialize(callbackContext),
+            new TypeReference<CallbackContext>() {
+            });
+        events.add(event);
+        return event;
+    }
+
+    private static ResourceModel syntheticModel() {
+        final KafkaClusterClientVpcConfig vpcConfig = KafkaClusterClientVpcConfig.builder()
+            .securityGroupIds(Sets.newHashSet("sg-0123456789abcdef0"))
+            .subnetIds(Sets.newHashSet("subnet-0123456789abcdef0", "subnet-0123456789abcdef1"))
+            .build();
+        final Map<String, String> tags = new HashMap<>();
+        tags.put("purpose", "training");
+
+        return ResourceModel.builder()
+            .replicatorName(TRAINING_REPLICATOR_NAME)
+            .description("Synthetic replicator")
+            .serviceExecutionRoleArn("arn:aws:iam::123456789012:role/ReplicatorExecutionRole")
+            .kafkaClusters(Sets.newHashSet(
+                KafkaCluster.builder()
+                    .amazonMskCluster(AmazonMskCluster.builder().mskClusterArn(SOURCE_CLUSTER_ARN).build())
+                    .vpcConfig(vpcConfig)
+                    .build(),
+                KafkaCluster.builder()
+                    .amazonMskCluster(AmazonMskCluster.builder().mskClusterArn(TARGET_CLUSTER_ARN).build())
+                    .vpcConfig(vpcConfig)
+                    .build()))
+            .replicationInfoList(Collections.singleton(syntheticReplicationInfo("orders-.*")))
+            .tags(TagHelper.convertToSet(tags))
+            .build();
+    }
+
+    private static ReplicationInfo syntheticReplicationInfo(final String... topicsToReplicate) {
+        return ReplicationInfo.builder()
+            .sourceKafkaClusterArn(SOURCE_CLUSTER_ARN)
+            .targetKafkaClusterArn(TARGET_CLUSTER_ARN)
+            .targetCompressionType("NONE")
+            .topicReplication(TopicReplication.builder()
+                .topicsToReplicate(Sets.newHashSet(topicsToReplicate))
+                .topicsToExclude(Sets.newHashSet("orders-internal.*"))
+                .copyTopicConfigurations(true)
+                .copyAccessControlListsForTopics(true)
+                .detectAndCopyNewTopics(true)
+                .build())
+            .consumerGroupReplication(ConsumerGroupReplication.builder()
+                .consumerGroupsToReplicate(Sets.newHashSet("app-.*"))
+                .consumerGroupsToExclude(Sets.newHashSet("console-consumer-.*"))
+                .synchroniseConsumerGroupOffsets(true)
+                .detectAndCopyNewConsumerGroups(true)
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,239 @@
+package software.amazon.msk.replicator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.kafka.KafkaClient;
+import software.amazon.awssdk.services.kafka.model.ConflictException;
+import software.amazon.awssdk.services.kafka.model.CreateReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.CreateReplicatorResponse;
+import software.amazon.awssdk.services.kafka.model.DeleteReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.DeleteReplicatorResponse;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorRequest;
+import software.amazon.awssdk.services.kafka.model.DescribeReplicatorResponse;
+import software.amazon.awssdk.services.kafka.model.KafkaClusterDescription;
+import software.amazon.awssdk.services.kafka.model.KafkaClusterSummary;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsRequest;
+import software.amazon.awssdk.services.kafka.model.ListReplicatorsResponse;
+import software.amazon.awssdk.services.kafka.model.NotFoundException;
+import software.amazon.awssdk.services.kafka.model.ReplicationInfoDescription;
+import software.amazon.awssdk.services.kafka.model.ReplicationInfoSummary;
+import software.amazon.awssdk.services.kafka.model.ReplicatorState;
+import software.amazon.awssdk.services.kafka.model.ReplicatorSummary;
+import software.amazon.awssdk.services.kafka.model.TagResourceRequest;
+import software.amazon.awssdk.services.kafka.model.TagResourceResponse;
+import software.amazon.awssdk.services.kafka.model.TopicReplication;
+import software.amazon.awssdk.services.kafka.model.UntagResourceRequest;
+import software.amazon.awssdk.services.kafka.model.UntagResourceResponse;
+import software.amazon.awssdk.services.kafka.model.UpdateReplicationInfoRequest;
+import software.amazon.awssdk.services.kafka.model.UpdateReplicationInfoResponse;
+
+/**
+ * Kafka client keeping replicators in memory, for exercising the handlers without the service: training runs,
+ * priming and benchmarks. Replicators are RUNNING as soon as they are created or updated and gone as soon as they are
+ * deleted, so the handlers stabilize on their first poll.
+ */
+final class InMemoryKafkaClient implements KafkaClient {
+    static final String REPLICATOR_ARN_PREFIX = "arn:aws:kafka:us-east-1:123456789012:replicator/";
+
+    private final ConcurrentMap<String, DescribeReplicatorResponse> replicators = new ConcurrentHashMap<>();
+    private final AtomicInteger createdReplicators = new AtomicInteger();
+
+    @Override
+    public CreateReplicatorResponse createReplicator(final CreateReplicatorRequest createReplicatorRequest) {
+        final boolean nameTaken = replicators.values().stream()
+            .anyMatch(replicator -> replicator.replicatorName().equals(createReplicatorRequest.replicatorName()));
+        if (nameTaken) {
+            throw conflict("Replicator " + createReplicatorRequest.replicatorName() + " already exists");
+        }
+
+        final String replicatorArn = REPLICATOR_ARN_PREFIX + createReplicatorRequest.replicatorName() + "/" +
+            createdReplicators.incrementAndGet();
+        final List<KafkaClusterDescription> kafkaClusters = new ArrayList<>();
+        final Map<String, String> aliasesByArn = new HashMap<>();
+        createReplicatorRequest.kafkaClusters().forEach(kafkaCluster -> {
+            final String alias = "cluster-" + kafkaClusters.size();
+            aliasesByArn.put(kafkaCluster.amazonMskCluster().mskClusterArn(), alias);
+            kafkaClusters.add(KafkaClusterDescription.builder()
+                .kafkaClusterAlias(alias)
+                .amazonMskCluster(kafkaCluster.amazonMskCluster())
+                .vpcConfig(kafkaCluster.vpcConfig())
+                .build());
+        });
+
+        replicators.put(replicatorArn, DescribeReplicatorResponse.builder()
+            .replicatorArn(replicatorArn)
+            .replicatorName(createReplicatorRequest.replicatorName())
+            .replicatorDescription(createReplicatorRequest.description())
+            .replicatorState(ReplicatorState.RUNNING)
+            .currentVersion("1")
+            .creationTime(Instant.now())
+            .serviceExecutionRoleArn(createReplicatorRequest.serviceExecutionRoleArn())
+            .kafkaClusters(kafkaClusters)
+            .replicationInfoList(createReplicatorRequest.replicationInfoList().stream()
+                .map(replicationInfo -> ReplicationInfoDescription.builder()
+                    .sourceKafkaClusterAlias(aliasesByArn.get(replicationInfo.sourceKafkaClusterArn()))
+                    .targetKafkaClusterAlias(aliasesByArn.get(replicationInfo.targetKafkaClusterArn()))
+                    .targetCompressionType(replicationInfo.targetCompressionTypeAsString())
+                    .topicReplication(replicationInfo.topicReplication())
+                    .consumerGroupReplication(replicationInfo.consumerGroupReplication())
+                    .build())
+                .collect(Collectors.toList()))
+            .tags(createReplicatorRequest.tags())
+            .build());
+
+        return CreateReplicatorResponse.builder()
+            .replicatorArn(replicatorArn)
+            .replicatorName(createReplicatorRequest.replicatorName())
+            .replicatorState(ReplicatorState.RUNNING)
+            .build();
+    }
+
+    @Override
+    public DescribeReplicatorResponse describeReplicator(final DescribeReplicatorRequest describeReplicatorRequest) {
+        return find(describeReplicatorRequest.replicatorArn());
+    }
+
+    @Override
+    public UpdateReplicationInfoResponse updateReplicationInfo(
+        final UpdateReplicationInfoRequest updateReplicationInfoRequest) {
+
+        final DescribeReplicatorResponse replicator = find(updateReplicationInfoRequest.replicatorArn());
+        if (!Objects.equals(replicator.currentVersion(), updateReplicationInfoRequest.currentVersion())) {
+            throw conflict("Current version " + updateReplicationInfoRequest.currentVersion() + " is stale");
+        }
+
+        final String sourceAlias = aliasOf(replicator, updateReplicationInfoRequest.sourceKafkaClusterArn());
+        final String targetAlias = aliasOf(replicator, updateReplicationInfoRequest.targetKafkaClusterArn());
+        final List<ReplicationInfoDescription> replicationInfoList = replicator.replicationInfoList().stream()
+            .map(replicationInfo -> !sourceAlias.equals(replicationInfo.sourceKafkaClusterAlias()) ||
+                !targetAlias.equals(replicationInfo.targetKafkaClusterAlias()) ? replicationInfo :
+                replicationInfo.toBuilder()
+                    .topicReplication(Optional.ofNullable(updateReplicationInfoRequest.topicReplication())
+                        .map(update -> TopicReplication.builder()
+                            .topicsToReplicate(update.topicsToReplicate())
+                            .topicsToExclude(update.topicsToExclude())
+                            .copyTopicConfigurations(update.copyTopicConfigurations())
+                            .copyAccessControlListsForTopics(update.copyAccessControlListsForTopics())
+                            .detectAndCopyNewTopics(update.detectAndCopyNewTopics())
+                            .startingPosition(replicationInfo.topicReplication().startingPosition())
+                            .build())
+                        .orElse(replicationInfo.topicReplication()))
+                    .consumerGroupReplication(Optional.ofNullable(updateReplicationInfoRequest.consumerGroupReplication())
+                        .map(update -> software.amazon.awssdk.services.kafka.model.ConsumerGroupReplication.builder()
+                            .consumerGroupsToReplicate(update.consumerGroupsToReplicate())
+                            .consumerGroupsToExclude(update.consumerGroupsToExclude())
+                            .synchroniseConsumerGroupOffsets(update.synchroniseConsumerGroupOffsets())
+                            .detectAndCopyNewConsumerGroups(update.detectAndCopyNewConsumerGroups())
+                            .build())
+                        .orElse(replicationInfo.consumerGroupReplication()))
+                    .build())
+            .collect(Collectors.toList());
+
+        replicators.put(replicator.replicatorArn(), replicator.toBuilder()
+            .currentVersion(String.valueOf(Integer.parseInt(replicator.currentVersion()) + 1))
+            .replicationInfoList(replicationInfoList)
+            .build());
+        return UpdateReplicationInfoResponse.builder()
+            .replicatorArn(replicator.replicatorArn())
+            .replicatorState(ReplicatorState.RUNNING)
+            .build();
+    }
+
+    @Override
+    public DeleteReplicatorResponse deleteReplicator(final DeleteReplicatorRequest deleteReplicatorRequest) {
+        final DescribeReplicatorResponse replicator = find(deleteReplicatorRequest.replicatorArn());
+        replicators.remove(replicator.replicatorArn());
+        return DeleteReplicatorResponse.builder()
+            .replicatorArn(replicator.replicatorArn())
+            .replicatorState(ReplicatorState.DELETING)
+            .build();
+    }
+
+    @Override
+    public ListReplicatorsResponse listReplicators(final ListReplicatorsRequest listReplicatorsRequest) {
+        final String nameFilter = listReplicatorsRequest.replicatorNameFilter();
+        return ListReplicatorsResponse.builder()
+            .replicators(replicators.values().stream()
+                .filter(replicator -> nameFilter == null || replicator.replicatorName().startsWith(nameFilter))
+                .map(replicator -> ReplicatorSummary.builder()
+                    .replicatorArn(replicator.replicatorArn())
+                    .replicatorName(replicator.replicatorName())
+                    .replicatorState(replicator.replicatorState())
+                    .currentVersion(replicator.currentVersion())
+                    .creationTime(replicator.creationTime())
+                    .kafkaClustersSummary(replicator.kafkaClusters().stream()
+                        .map(kafkaCluster -> KafkaClusterSummary.builder()
+                            .kafkaClusterAlias(kafkaCluster.kafkaClusterAlias())
+                            .amazonMskCluster(kafkaCluster.amazonMskCluster())
+                            .build())
+                        .collect(Collectors.toList()))
+                    .replicationInfoSummaryList(replicator.replicationInfoList().stream()
+                        .map(replicationInfo -> ReplicationInfoSummary.builder()
+                            .sourceKafkaClusterAlias(replicationInfo.sourceKafkaClusterAlias())
+                            .targetKafkaClusterAlias(replicationInfo.targetKafkaClusterAlias())
+                            .build())
+                        .collect(Collectors.toList()))
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest tagResourceRequest) {
+        final DescribeReplicatorResponse replicator = find(tagResourceRequest.resourceArn());
+        final Map<String, String> tags = new HashMap<>(replicator.tags());
+        tags.putAll(tagResourceRequest.tags());
+        replicators.put(replicator.replicatorArn(), replicator.toBuilder().tags(tags).build());
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest untagResourceRequest) {
+        final DescribeReplicatorResponse replicator = find(untagResourceRequest.resourceArn());
+        final Map<String, String> tags = new HashMap<>(replicator.tags());
+        untagResourceRequest.tagKeys().forEach(tags::remove);
+        replicators.put(replicator.replicatorArn(), replicator.toBuilder().tags(tags).build());
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private DescribeReplicatorResponse find(final String replicatorArn) {
+        final DescribeReplicatorResponse replicator = replicatorArn == null ? null : replicators.get(replicatorArn);
+        if (replicator == null) {
+            throw NotFoundException.builder().message("Replicator " + replicatorArn + " does not exist").build();
+        }
+        return replicator;
+    }
+
+    private static String aliasOf(final DescribeReplicatorResponse replicator, final String kafkaClusterArn) {
+        return replicator.kafkaClusters().stream()
+            .filter(kafkaCluster -> kafkaCluster.amazonMskCluster().mskClusterArn().equals(kafkaClusterArn))
+            .map(KafkaClusterDescription::kafkaClusterAlias)
+            .findFirst()
+            .orElseThrow(() -> NotFoundException.builder()
+                .message("Kafka cluster " + kafkaClusterArn + " is not part of replicator " + replicator.replicatorArn())
+                .build());
+    }
+
+    private static ConflictException conflict(final String message) {
+        return ConflictException.builder().message(message).build();
+    }
+}